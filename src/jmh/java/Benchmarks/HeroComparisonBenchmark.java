@@ -0,0 +1,58 @@
+package Benchmarks;
+
+import Models.Superhero;
+import Models.SuperheroFieldComparator;
+import org.assertj.core.api.Assertions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static TestData.SuperheroTestData.BASIC_HERO;
+
+/**
+ * Comparing a list of saved heroes with their expected versions, ignoring the server-assigned id: AssertJ's
+ * reflective recursive comparison against the generated {@link SuperheroFieldComparator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HeroComparisonBenchmark {
+
+    @Param({"1000"})
+    public int heroes;
+
+    private final Set<String> ignoreId = SuperheroFieldComparator.INSTANCE.ignoring("id");
+    private List<Superhero> actual;
+    private List<Superhero> expected;
+
+    @Setup
+    public void setUp() {
+        actual = new ArrayList<>(heroes);
+        expected = new ArrayList<>(heroes);
+        for (int i = 0; i < heroes; i++) {
+            actual.add(hero(i, i + 1));
+            expected.add(hero(i, 0));
+        }
+    }
+
+    @Benchmark
+    public void recursiveComparison() {
+        for (int i = 0; i < heroes; i++) {
+            Assertions.assertThat(actual.get(i)).usingRecursiveComparison().ignoringFields("id")
+                    .isEqualTo(expected.get(i));
+        }
+    }
+
+    @Benchmark
+    public void generatedComparator() {
+        SuperheroFieldComparator.INSTANCE.assertAllMatch(actual, expected, ignoreId);
+    }
+
+    private static Superhero hero(int index, long id) {
+        return new Superhero(BASIC_HERO.getBirthDate(), BASIC_HERO.getCity(), "Hero " + index,
+                BASIC_HERO.getGender(), id, BASIC_HERO.getMainSkill(), BASIC_HERO.getPhone());
+    }
+}
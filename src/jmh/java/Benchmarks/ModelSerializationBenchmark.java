@@ -0,0 +1,92 @@
+package Benchmarks;
+
+import Json.JsonMapping;
+import Models.BasicPetStoreResponse;
+import Models.Superhero;
+import Models.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static TestData.SuperheroTestData.BASIC_HERO;
+
+/**
+ * {@code plain} binds through a default {@link ObjectMapper}, as the controllers did before; {@code shared} goes
+ * through {@link JsonMapping}, whose mapper generates accessors with Blackbird.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ModelSerializationBenchmark {
+
+    @Param({"plain", "shared"})
+    public String mapping;
+
+    private Superhero hero;
+    private User user;
+    private BasicPetStoreResponse petStoreResponse;
+    private byte[] heroJson;
+    private byte[] userJson;
+    private byte[] petStoreResponseJson;
+    private ObjectReader heroReader;
+    private ObjectReader userReader;
+    private ObjectReader petStoreResponseReader;
+    private ObjectWriter heroWriter;
+    private ObjectWriter userWriter;
+    private ObjectWriter petStoreResponseWriter;
+
+    @Setup
+    public void setUp() throws Exception {
+        hero = BASIC_HERO;
+        user = new User(42, "benchmark_user", "Bench", "Mark", "benchmark@example.com", "password", "+100", 1);
+        petStoreResponse = new BasicPetStoreResponse();
+        petStoreResponse.setCode(200);
+        petStoreResponse.setType("unknown");
+        petStoreResponse.setMessage("9223372036854775807");
+
+        ObjectMapper mapper = mapping.equals("shared") ? JsonMapping.mapper() : new ObjectMapper();
+        heroReader = mapper.readerFor(Superhero.class);
+        userReader = mapper.readerFor(User.class);
+        petStoreResponseReader = mapper.readerFor(BasicPetStoreResponse.class);
+        heroWriter = mapper.writerFor(Superhero.class);
+        userWriter = mapper.writerFor(User.class);
+        petStoreResponseWriter = mapper.writerFor(BasicPetStoreResponse.class);
+
+        heroJson = heroWriter.writeValueAsBytes(hero);
+        userJson = userWriter.writeValueAsBytes(user);
+        petStoreResponseJson = petStoreResponseWriter.writeValueAsBytes(petStoreResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeSuperhero() throws Exception {
+        return heroWriter.writeValueAsBytes(hero);
+    }
+
+    @Benchmark
+    public Superhero deserializeSuperhero() throws Exception {
+        return heroReader.readValue(heroJson);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws Exception {
+        return userWriter.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public User deserializeUser() throws Exception {
+        return userReader.readValue(userJson);
+    }
+
+    @Benchmark
+    public byte[] serializePetStoreResponse() throws Exception {
+        return petStoreResponseWriter.writeValueAsBytes(petStoreResponse);
+    }
+
+    @Benchmark
+    public BasicPetStoreResponse deserializePetStoreResponse() throws Exception {
+        return petStoreResponseReader.readValue(petStoreResponseJson);
+    }
+}
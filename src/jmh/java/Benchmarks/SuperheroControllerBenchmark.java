@@ -0,0 +1,39 @@
+package Benchmarks;
+
+import Controllers.FluentSuperheroController;
+import Controllers.SuperheroResponse;
+import Stubs.SuperheroStub;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static TestData.SuperheroTestData.BASIC_HERO;
+
+/**
+ * A full {@code getHero} round trip through the controller stack (spec, filters, RestAssured, Apache client) against
+ * the loopback stub, which answers from memory; what is left is the cost of the client side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SuperheroControllerBenchmark {
+
+    private FluentSuperheroController controller;
+    private long heroId;
+
+    @Setup
+    public void setUp() {
+        controller = new FluentSuperheroController(SuperheroStub.get().getBaseUrl());
+        heroId = controller.createHero(BASIC_HERO).statusCodeIs(200).getSuperheroFromResponse().getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        controller.deleteCreatedHeroes();
+    }
+
+    @Benchmark
+    public SuperheroResponse getHero() {
+        return controller.getHero(heroId).statusCodeIs(200);
+    }
+}
@@ -0,0 +1,58 @@
+package Benchmarks;
+
+import Controllers.SuperheroResponse;
+import Models.Superhero;
+import Stubs.SuperheroStub;
+import io.restassured.response.ValidatableResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static TestData.SuperheroTestData.HERO_WITHOUT_PHONE;
+import static io.restassured.RestAssured.given;
+
+/**
+ * Cost of the assertion chain on an already received response: a fresh {@link SuperheroResponse} per invocation,
+ * so parsing the body is part of every measurement, as it is in a test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SuperheroResponseAssertionBenchmark {
+
+    private ValidatableResponse response;
+    private Superhero expectedHero;
+
+    @Setup
+    public void setUp() {
+        response = given()
+                .baseUri(SuperheroStub.get().getBaseUrl())
+                .contentType("application/json")
+                // the service drops the phone, so a hero without one reads back unchanged
+                .body(HERO_WITHOUT_PHONE)
+                .post("superheroes/")
+                .then();
+        // reading the body once caches it, so the benchmark never touches the network
+        response.extract().asByteArray();
+        expectedHero = HERO_WITHOUT_PHONE;
+    }
+
+    @Benchmark
+    public SuperheroResponse jsonValueCompare() {
+        return new SuperheroResponse(response).jsonValueCompare("city", HERO_WITHOUT_PHONE.getCity());
+    }
+
+    @Benchmark
+    public SuperheroResponse compareWithHero() {
+        return new SuperheroResponse(response).compareWithHero(expectedHero);
+    }
+
+    @Benchmark
+    public SuperheroResponse assertionChain() {
+        return new SuperheroResponse(response)
+                .statusCodeIs(200)
+                .jsonValueCompare("fullName", HERO_WITHOUT_PHONE.getFullName())
+                .jsonValueCompare("city", HERO_WITHOUT_PHONE.getCity())
+                .compareWithHero(expectedHero);
+    }
+}
@@ -0,0 +1,111 @@
+package Comparators;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Field-by-field equality for one model type, generated by {@link FieldComparatorProcessor}. Ignored fields are
+ * simply skipped, so expected objects never have to be patched with server-assigned values before comparing.
+ */
+public interface FieldComparator<T> {
+
+    int MAX_REPORTED_ELEMENTS = 10;
+
+    Class<T> type();
+
+    List<String> fieldNames();
+
+    /**
+     * Differences in declaration order; empty when every compared field matches.
+     */
+    List<FieldDifference> differences(T actual, T expected, Set<String> ignoredFields);
+
+    default Set<String> ignoring(String... fields) {
+        Set<String> ignored = Set.of(fields);
+        for (String field : ignored) {
+            if (!fieldNames().contains(field)) {
+                throw new IllegalArgumentException(type().getSimpleName() + " has no field '" + field
+                        + "', it has " + fieldNames());
+            }
+        }
+        return ignored;
+    }
+
+    default boolean matches(T actual, T expected, Set<String> ignoredFields) {
+        if (actual == null || expected == null) {
+            return actual == expected;
+        }
+        return differences(actual, expected, ignoredFields).isEmpty();
+    }
+
+    default void assertMatches(T actual, T expected, Set<String> ignoredFields) {
+        assertMatches(null, actual, expected, ignoredFields);
+    }
+
+    /**
+     * @param description prefixed to the failure message as {@code [description]}, like AssertJ's {@code as()}
+     */
+    default void assertMatches(String description, T actual, T expected, Set<String> ignoredFields) {
+        String failure = describeMismatch(actual, expected, ignoredFields);
+        if (failure != null) {
+            throw new AssertionError((description == null ? "" : "[" + description + "] ") + "Expecting "
+                    + type().getSimpleName() + " " + actual + " to match " + expected
+                    + ignoredSuffix(ignoredFields) + ", but " + failure);
+        }
+    }
+
+    default void assertAllMatch(List<T> actual, List<T> expected, Set<String> ignoredFields) {
+        StringBuilder failures = new StringBuilder();
+        int mismatched = 0;
+        Iterator<T> expectedElements = expected.iterator();
+        int index = 0;
+        for (T actualElement : actual) {
+            if (!expectedElements.hasNext()) {
+                break;
+            }
+            String failure = describeMismatch(actualElement, expectedElements.next(), ignoredFields);
+            if (failure != null && ++mismatched <= MAX_REPORTED_ELEMENTS) {
+                failures.append(System.lineSeparator()).append("  [").append(index).append("] ").append(failure);
+            }
+            index++;
+        }
+        if (mismatched == 0 && actual.size() == expected.size()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("Expecting ").append(actual.size()).append(' ')
+                .append(type().getSimpleName()).append(" elements to match ").append(expected.size())
+                .append(" expected").append(ignoredSuffix(ignoredFields));
+        if (actual.size() != expected.size()) {
+            message.append(", but the sizes differ");
+        }
+        if (mismatched > 0) {
+            message.append(actual.size() != expected.size() ? " and " : ", but ")
+                    .append(mismatched).append(" element(s) differ:").append(failures);
+            if (mismatched > MAX_REPORTED_ELEMENTS) {
+                message.append(System.lineSeparator()).append("  ... ")
+                        .append(mismatched - MAX_REPORTED_ELEMENTS).append(" more");
+            }
+        }
+        throw new AssertionError(message.toString());
+    }
+
+    private String describeMismatch(T actual, T expected, Set<String> ignoredFields) {
+        if (actual == null || expected == null) {
+            return actual == expected ? null : "expected " + expected + " but was " + actual;
+        }
+        List<FieldDifference> differences = differences(actual, expected, ignoredFields);
+        if (differences.isEmpty()) {
+            return null;
+        }
+        StringBuilder description = new StringBuilder().append(differences.size()).append(" field(s) differ:");
+        for (FieldDifference difference : differences) {
+            description.append(System.lineSeparator()).append("    ").append(difference);
+        }
+        return description.toString();
+    }
+
+    private static String ignoredSuffix(Set<String> ignoredFields) {
+        return ignoredFields.isEmpty() ? "" : " (ignoring " + ignoredFields + ")";
+    }
+}
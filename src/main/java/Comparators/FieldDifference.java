@@ -0,0 +1,33 @@
+package Comparators;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Value
+public class FieldDifference {
+
+    String field;
+    Object actual;
+    Object expected;
+
+    /**
+     * Used by generated comparators so that objects that match allocate nothing.
+     */
+    public static List<FieldDifference> append(List<FieldDifference> differences, String field,
+                                               Object actual, Object expected) {
+        List<FieldDifference> result = differences == null ? new ArrayList<>() : differences;
+        result.add(new FieldDifference(field, actual, expected));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return field + ": expected " + format(expected) + " but was " + format(actual);
+    }
+
+    private static String format(Object value) {
+        return value instanceof CharSequence ? "\"" + value + "\"" : String.valueOf(value);
+    }
+}
@@ -0,0 +1,16 @@
+package Comparators;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates {@code <Type>FieldComparator} next to the annotated class: a {@link FieldComparator} that reads every
+ * instance field through its getter, in declaration order, without reflection. Field values are compared with
+ * {@code equals}, not recursively, which suits the flat request and response models.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateFieldComparator {
+}
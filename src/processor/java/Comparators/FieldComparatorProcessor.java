@@ -0,0 +1,138 @@
+package Comparators;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a {@code FieldComparator} for each class annotated with {@code GenerateFieldComparator}. Fields are read
+ * through conventional getters ({@code getX}, or {@code isX} for {@code boolean}), which may come from Lombok:
+ * the generated source only refers to them by name, so they need to exist by the time it is compiled.
+ * The annotation is matched by name too, so the processor needs nothing from the code it processes.
+ */
+@SupportedAnnotationTypes("Comparators.GenerateFieldComparator")
+public class FieldComparatorProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "@GenerateFieldComparator only applies to classes", element);
+                    continue;
+                }
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getSimpleName().toString();
+        String comparatorName = typeName + "FieldComparator";
+        List<VariableElement> fields = ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(field -> !field.getModifiers().contains(Modifier.STATIC))
+                .filter(field -> !field.getModifiers().contains(Modifier.TRANSIENT))
+                .collect(Collectors.toList());
+
+        String qualifiedName = packageName.isEmpty() ? comparatorName : packageName + "." + comparatorName;
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("import Comparators.FieldComparator;");
+            out.println("import Comparators.FieldDifference;");
+            out.println();
+            out.println("import java.util.List;");
+            out.println("import java.util.Objects;");
+            out.println("import java.util.Set;");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("public final class " + comparatorName + " implements FieldComparator<" + typeName + "> {");
+            out.println();
+            out.println("    public static final " + comparatorName + " INSTANCE = new " + comparatorName + "();");
+            out.println();
+            out.println("    private static final List<String> FIELDS = List.of("
+                    + fields.stream().map(field -> "\"" + field.getSimpleName() + "\"").collect(Collectors.joining(", "))
+                    + ");");
+            out.println();
+            out.println("    private " + comparatorName + "() {");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Class<" + typeName + "> type() {");
+            out.println("        return " + typeName + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public List<String> fieldNames() {");
+            out.println("        return FIELDS;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public List<FieldDifference> differences(" + typeName + " actual, " + typeName
+                    + " expected, Set<String> ignoredFields) {");
+            out.println("        List<FieldDifference> differences = null;");
+            for (VariableElement field : fields) {
+                String name = field.getSimpleName().toString();
+                String actual = "actual." + getterOf(field) + "()";
+                String expected = "expected." + getterOf(field) + "()";
+                out.println("        if (" + differs(field.asType().getKind(), actual, expected)
+                        + " && !ignoredFields.contains(\"" + name + "\")) {");
+                out.println("            differences = FieldDifference.append(differences, \"" + name + "\", "
+                        + actual + ", " + expected + ");");
+                out.println("        }");
+            }
+            out.println("        return differences == null ? List.of() : differences;");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + qualifiedName, e);
+        }
+    }
+
+    private static String getterOf(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    // compared before the ignored-field lookup: equal fields, the common case, never touch the set
+    private static String differs(TypeKind kind, String actual, String expected) {
+        switch (kind) {
+            case FLOAT:
+                return "Float.compare(" + actual + ", " + expected + ") != 0";
+            case DOUBLE:
+                return "Double.compare(" + actual + ", " + expected + ") != 0";
+            case ARRAY:
+                return "!Objects.deepEquals(" + actual + ", " + expected + ")";
+            default:
+                return kind.isPrimitive()
+                        ? actual + " != " + expected
+                        : "!Objects.equals(" + actual + ", " + expected + ")";
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package Benchmarking;
+
+import Controllers.FluentSuperheroController;
+import Controllers.SuperheroResponse;
+import Reporting.BenchmarkReport;
+import Stubs.SuperheroStub;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.stream.IntStream;
+
+import static TestData.SuperheroTestData.HERO_WITHOUT_PHONE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class AsyncFanOutBenchmarks {
+
+    private static final int FAN_OUT = 1_000;
+    private static final int SERIAL_SAMPLE = 20;
+    private static final Duration ROUND_TRIP = Duration.ofMillis(200);
+
+    private AsyncFanOutBenchmarks() {
+    }
+
+    static void fanOutGetsOverlap(BenchmarkReport report, Path workDirectory) {
+        FluentSuperheroController fluentSuperheroController =
+                new FluentSuperheroController(SuperheroStub.get().getBaseUrl());
+        try {
+            long id = fluentSuperheroController.createHero(HERO_WITHOUT_PHONE).statusCodeIs(200)
+                    .getSuperheroFromResponse().getId();
+            SuperheroStub.get().setResponseLatency(ROUND_TRIP);
+
+            long serialStart = System.nanoTime();
+            for (int i = 0; i < SERIAL_SAMPLE; i++) {
+                fluentSuperheroController.getHero(id).statusCodeIs(200);
+            }
+            Duration serial = Duration.ofNanos(System.nanoTime() - serialStart).multipliedBy(FAN_OUT / SERIAL_SAMPLE);
+
+            LongAccumulator slowestNanos = new LongAccumulator(Math::max, 0);
+            long start = System.nanoTime();
+            List<CompletableFuture<SuperheroResponse>> gets = IntStream.range(0, FAN_OUT)
+                    .mapToObj(i -> {
+                        long sent = System.nanoTime();
+                        return fluentSuperheroController.getHeroAsync(id)
+                                .whenComplete((response, error) -> slowestNanos.accumulate(System.nanoTime() - sent));
+                    })
+                    .toList();
+            CompletableFuture.allOf(gets.toArray(CompletableFuture[]::new)).join();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            gets.forEach(get -> get.join().statusCodeIs(200).compareWithHero(HERO_WITHOUT_PHONE));
+            report.line("%d gets with a %d ms round trip: %d ms elapsed, slowest get %d ms, "
+                            + "one by one ~%d ms (extrapolated from %d sequential gets)",
+                    FAN_OUT, ROUND_TRIP.toMillis(), elapsed.toMillis(), Duration.ofNanos(slowestNanos.get()).toMillis(),
+                    serial.toMillis(), SERIAL_SAMPLE);
+            assertThat(elapsed).isLessThan(serial.dividedBy(5));
+        } finally {
+            SuperheroStub.get().setResponseLatency(Duration.ZERO);
+            fluentSuperheroController.deleteCreatedHeroes();
+        }
+    }
+}
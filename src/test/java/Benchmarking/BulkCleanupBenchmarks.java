@@ -0,0 +1,58 @@
+package Benchmarking;
+
+import Cleanup.BulkDeleteSummary;
+import Controllers.FluentSuperheroController;
+import Models.Superhero;
+import Reporting.BenchmarkReport;
+import Stubs.SuperheroStub;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static TestData.SuperheroTestData.BASIC_HERO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class BulkCleanupBenchmarks {
+
+    private static final int LEFTOVER_HEROES = 300;
+    private static final Duration ROUND_TRIP = Duration.ofMillis(20);
+
+    private BulkCleanupBenchmarks() {
+    }
+
+    static void serialVsBulkCleanup(BenchmarkReport report, Path workDirectory) {
+        FluentSuperheroController controller = new FluentSuperheroController(SuperheroStub.get().getBaseUrl());
+        try {
+            for (int maxInFlight : new int[]{1, 16, 64, LEFTOVER_HEROES}) {
+                List<Long> ids = createLeftovers(controller);
+                SuperheroStub.get().setResponseLatency(ROUND_TRIP);
+
+                BulkDeleteSummary<Long> summary = controller.deleteHeroes(ids, maxInFlight);
+
+                SuperheroStub.get().setResponseLatency(Duration.ZERO);
+                assertThat(summary.getFailures()).isEmpty();
+                assertThat(summary.getDeleted()).isEqualTo(LEFTOVER_HEROES);
+                report.line("%d heroes, %3d in flight: %5d ms elapsed (%.1f round trips), serial cost %5d ms",
+                        LEFTOVER_HEROES, maxInFlight, summary.getElapsed().toMillis(),
+                        (double) summary.getElapsed().toMillis() / ROUND_TRIP.toMillis(),
+                        summary.getSerialTime().toMillis());
+                if (maxInFlight > 1) {
+                    assertThat(summary.getElapsed()).isLessThan(summary.getSerialTime());
+                }
+            }
+        } finally {
+            SuperheroStub.get().setResponseLatency(Duration.ZERO);
+        }
+    }
+
+    private static List<Long> createLeftovers(FluentSuperheroController controller) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < LEFTOVER_HEROES; i++) {
+            Superhero hero = controller.createHero(BASIC_HERO).statusCodeIs(200).getSuperheroFromResponse();
+            ids.add(hero.getId());
+        }
+        return ids;
+    }
+}
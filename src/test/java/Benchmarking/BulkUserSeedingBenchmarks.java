@@ -0,0 +1,74 @@
+package Benchmarking;
+
+import Cleanup.BulkCreateSummary;
+import Controllers.BulkUserEndpoint;
+import Controllers.UserController;
+import Models.User;
+import Reporting.BenchmarkReport;
+import Stubs.PetstoreStub;
+import TestData.Fixtures;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class BulkUserSeedingBenchmarks {
+
+    private static final int USERS = 10_000;
+    // one create and one wait per user is linear by construction; timing all 10k of them would take most of an hour
+    private static final int ONE_BY_ONE_SAMPLE = 200;
+    private static final Duration ROUND_TRIP = Duration.ofMillis(2);
+
+    private BulkUserSeedingBenchmarks() {
+    }
+
+    static void oneByOneVsBulk(BenchmarkReport report, Path workDirectory) {
+        UserController controller = new UserController(PetstoreStub.get().getBaseUrl());
+        try {
+            PetstoreStub.get().setResponseLatency(ROUND_TRIP);
+
+            long start = System.nanoTime();
+            for (User user : users(ONE_BY_ONE_SAMPLE)) {
+                assertThat(controller.createUser(user).statusCode()).isEqualTo(200);
+                assertThat(controller.getUserByName(user.getUsername()).statusCode()).isEqualTo(200);
+            }
+            Duration sample = Duration.ofNanos(System.nanoTime() - start);
+            Duration oneByOne = sample.multipliedBy(USERS / ONE_BY_ONE_SAMPLE);
+            report.line("%d users one at a time: %6d ms (%d round trips; %d users measured in %d ms)",
+                    USERS, oneByOne.toMillis(), 2 * USERS, ONE_BY_ONE_SAMPLE, sample.toMillis());
+            cleanUp(controller);
+
+            for (int chunkSize : new int[]{100, 1000}) {
+                BulkCreateSummary<String> summary = controller.createUsers(users(USERS).stream(),
+                        BulkUserEndpoint.LIST, chunkSize, UserController.DEFAULT_BULK_MAX_IN_FLIGHT);
+                assertThat(summary.isClean()).as("failures: %s", summary.getFailures()).isTrue();
+                assertThat(summary.getCreated()).hasSize(USERS);
+                Duration total = summary.getElapsed().plus(summary.getVisibility().getWaited());
+                report.line("%d users in chunks of %4d, %d in flight: create %5d ms + visible %5d ms (%d probes)"
+                                + " = %5d ms, %.1fx faster",
+                        USERS, chunkSize, summary.getMaxInFlight(), summary.getElapsed().toMillis(),
+                        summary.getVisibility().getWaited().toMillis(), summary.getVisibility().getProbes(),
+                        total.toMillis(), (double) oneByOne.toNanos() / total.toNanos());
+                assertThat(total).isLessThan(oneByOne);
+                cleanUp(controller);
+            }
+        } finally {
+            PetstoreStub.get().setResponseLatency(Duration.ZERO);
+            assertThat(controller.deleteCreatedUsers().getFailures()).isEmpty();
+        }
+    }
+
+    private static List<User> users(int count) {
+        return Stream.generate(Fixtures::user).limit(count).toList();
+    }
+
+    private static void cleanUp(UserController controller) {
+        Duration latency = PetstoreStub.get().getResponseLatency();
+        PetstoreStub.get().setResponseLatency(Duration.ZERO);
+        assertThat(controller.deleteCreatedUsers().getFailures()).isEmpty();
+        PetstoreStub.get().setResponseLatency(latency);
+    }
+}
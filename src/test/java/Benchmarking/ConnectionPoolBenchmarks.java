@@ -0,0 +1,139 @@
+package Benchmarking;
+
+import Controllers.FluentSuperheroController;
+import Load.LatencyHistogram;
+import Reporting.BenchmarkReport;
+import Stubs.SuperheroStub;
+import Timing.ConnectionPool;
+import Timing.TimedHttpClientFactory;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static Constants.Constants.SUPERHERO_ENDPOINT;
+import static TestData.SuperheroTestData.BASIC_HERO;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ConnectionPoolBenchmarks {
+
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int REQUESTS = 2_000;
+    private static final int FRESH_POOLS = 50;
+
+    private final String baseUrl = SuperheroStub.get().getBaseUrl();
+    private final FluentSuperheroController fluentSuperheroController = new FluentSuperheroController(baseUrl);
+    private final long heroId;
+
+    private ConnectionPoolBenchmarks() {
+        heroId = fluentSuperheroController.createHero(BASIC_HERO).statusCodeIs(200).getSuperheroFromResponse().getId();
+    }
+
+    static void pooledConnectionsSkipHandshakes(BenchmarkReport report, Path workDirectory) {
+        ConnectionPoolBenchmarks benchmark = new ConnectionPoolBenchmarks();
+        try {
+            benchmark.comparePooledWithPerRequest(report);
+        } finally {
+            benchmark.fluentSuperheroController.deleteCreatedHeroes();
+        }
+    }
+
+    static void warmUpTakesConnectSetupOffTheFirstRequest(BenchmarkReport report, Path workDirectory) {
+        ConnectionPoolBenchmarks benchmark = new ConnectionPoolBenchmarks();
+        try {
+            benchmark.compareColdWithWarmedUp(report);
+        } finally {
+            benchmark.fluentSuperheroController.deleteCreatedHeroes();
+        }
+    }
+
+    private void comparePooledWithPerRequest(BenchmarkReport report) {
+        TimedHttpClientFactory perRequest = TimedHttpClientFactory.perRequestConnections();
+        ConnectionPool pool = newPool();
+        try {
+            LatencyHistogram fresh = timeGets(spec(HttpClientConfig.httpClientConfig().httpClientFactory(perRequest)));
+            LatencyHistogram pooled = timeGets(spec(pool.httpClientConfig()));
+
+            long freshP50 = fresh.valueAtPercentileNanos(50);
+            long pooledP50 = pooled.valueAtPercentileNanos(50);
+            report.line("%d gets, new connection per request: p50 %.2f ms, p99 %.2f ms; %s",
+                    REQUESTS, millis(freshP50), millis(fresh.valueAtPercentileNanos(99)), perRequest.getCounters());
+            report.line("%d gets, pooled: p50 %.2f ms, p99 %.2f ms; %s; p50 gained %.2f ms (%.1fx)",
+                    REQUESTS, millis(pooledP50), millis(pooled.valueAtPercentileNanos(99)), pool.getCounters(),
+                    millis(freshP50 - pooledP50), (double) freshP50 / pooledP50);
+
+            assertThat(perRequest.getCounters().getHandshakesSaved()).isZero();
+            assertThat(pool.getCounters().getConnectionsOpened()).isEqualTo(1);
+            assertThat(pool.getCounters().getHandshakesSaved()).isEqualTo(WARMUP_REQUESTS + REQUESTS - 1);
+            assertThat(pooledP50).isLessThan(freshP50);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void compareColdWithWarmedUp(BenchmarkReport report) {
+        // the JIT has seen the pooled path before the first cold request is timed
+        timeGets(spec(ConnectionPool.shared().httpClientConfig()));
+        LatencyHistogram cold = new LatencyHistogram();
+        LatencyHistogram warm = new LatencyHistogram();
+        for (int i = 0; i < FRESH_POOLS; i++) {
+            cold.recordNanos(firstGet(newPool(), false));
+            warm.recordNanos(firstGet(newPool(), true));
+        }
+
+        long coldP50 = cold.valueAtPercentileNanos(50);
+        long warmP50 = warm.valueAtPercentileNanos(50);
+        // against the loopback stub a connect is mostly the kernel's; the gain is DNS, TCP and TLS to a remote host
+        report.line("first get over %d fresh pools: cold p50 %.2f ms, warmed up p50 %.2f ms, gained %.2f ms",
+                FRESH_POOLS, millis(coldP50), millis(warmP50), millis(coldP50 - warmP50));
+    }
+
+    private long firstGet(ConnectionPool pool, boolean warmUp) {
+        try {
+            if (warmUp) {
+                assertThat(pool.warmUp(List.of(baseUrl), 1)).isEqualTo(1);
+            }
+            RequestSpecification spec = spec(pool.httpClientConfig());
+            long start = System.nanoTime();
+            given().spec(spec).get(SUPERHERO_ENDPOINT + heroId).then().statusCode(200);
+            long elapsed = System.nanoTime() - start;
+            assertThat(pool.getCounters().getHandshakesSaved()).isEqualTo(warmUp ? 1 : 0);
+            return elapsed;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private LatencyHistogram timeGets(RequestSpecification spec) {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            given().spec(spec).get(SUPERHERO_ENDPOINT + heroId).then().statusCode(200);
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            given().spec(spec).get(SUPERHERO_ENDPOINT + heroId).then().statusCode(200);
+            histogram.recordNanos(System.nanoTime() - start);
+        }
+        return histogram;
+    }
+
+    private RequestSpecification spec(HttpClientConfig httpClient) {
+        return new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setConfig(RestAssuredConfig.config().httpClient(httpClient))
+                .build();
+    }
+
+    private static ConnectionPool newPool() {
+        return new ConnectionPool(ConnectionPool.DEFAULT_MAX_PER_ROUTE, ConnectionPool.DEFAULT_MAX_TOTAL,
+                ConnectionPool.DEFAULT_IDLE_TIMEOUT);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
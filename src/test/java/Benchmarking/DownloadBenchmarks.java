@@ -0,0 +1,88 @@
+package Benchmarking;
+
+import Controllers.DownloadController;
+import Controllers.DownloadResult;
+import Reporting.BenchmarkReport;
+import Stubs.FileStub;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class DownloadBenchmarks {
+
+    private static final long SIZE_MEGABYTES = Long.getLong("download.benchmarkMegabytes", 2048);
+    private static final long SEGMENTED_MEGABYTES = Long.getLong("download.segmentedMegabytes", 256);
+    // a per-connection cap like a CDN or a long, lossy path would impose; loopback alone has no such limit
+    private static final long BYTES_PER_SECOND_PER_CONNECTION =
+            Long.getLong("download.connectionBytesPerSecond", 32L << 20);
+
+    private DownloadBenchmarks() {
+    }
+
+    static void downloadLargerThanHeap(BenchmarkReport report, Path workDirectory) throws Exception {
+        long size = SIZE_MEGABYTES * 1024 * 1024;
+        String url = FileStub.get().publish("artifact.bin", size, "application/octet-stream");
+        Path target = workDirectory.resolve("artifact.bin");
+        String expectedSha256 = FileStub.sha256Of(size);
+        resetPeakHeap();
+
+        DownloadResult result = new DownloadController().download(url, target);
+
+        long peakHeap = peakHeapUsed();
+        report.line("%d MB in %d ms: %.1f MB/s, peak heap %d MB of %d MB max", SIZE_MEGABYTES,
+                result.getElapsed().toMillis(), result.getMegabytesPerSecond(), peakHeap >> 20,
+                Runtime.getRuntime().maxMemory() >> 20);
+        assertThat(result.getBytes()).isEqualTo(size);
+        assertThat(result.getSha256()).isEqualTo(expectedSha256);
+        assertThat(Files.size(target)).isEqualTo(size);
+        if (size > Runtime.getRuntime().maxMemory()) {
+            assertThat(peakHeap).isLessThan(Runtime.getRuntime().maxMemory());
+        }
+        Files.delete(target);
+    }
+
+    static void segmentCountComparison(BenchmarkReport report, Path workDirectory) throws Exception {
+        long size = SEGMENTED_MEGABYTES * 1024 * 1024;
+        String url = FileStub.get().publish("segmented-artifact.bin", FileStub.ServedFile.builder()
+                .size(size)
+                .bytesPerSecond(BYTES_PER_SECOND_PER_CONNECTION)
+                .build());
+        String expectedSha256 = FileStub.sha256Of(size);
+
+        double singleConnection = 0;
+        for (int segments : new int[]{1, 4, 8}) {
+            Path target = workDirectory.resolve("segmented-" + segments + ".bin");
+            DownloadResult result = new DownloadController().download(url, target, segments);
+
+            report.line("%d MB, %d segment(s) at %d MB/s per connection: %6d ms, %.1f MB/s", SEGMENTED_MEGABYTES,
+                    result.getSegments(), BYTES_PER_SECOND_PER_CONNECTION >> 20, result.getElapsed().toMillis(),
+                    result.getMegabytesPerSecond());
+            assertThat(result.getSha256()).isEqualTo(expectedSha256);
+            if (segments == 1) {
+                singleConnection = result.getMegabytesPerSecond();
+            } else {
+                assertThat(result.getMegabytesPerSecond()).isGreaterThan(singleConnection);
+            }
+            Files.delete(target);
+        }
+    }
+
+    private static void resetPeakHeap() {
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long peakHeapUsed() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+}
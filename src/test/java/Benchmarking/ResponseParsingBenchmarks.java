@@ -0,0 +1,209 @@
+package Benchmarking;
+
+import Controllers.SuperheroResponse;
+import Json.CompiledJsonPath;
+import Json.JsonArrayStream;
+import Models.Superhero;
+import Reporting.BenchmarkReport;
+import Stubs.SuperheroStub;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.RequestSpecification;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import static Constants.Constants.SUPERHERO_ENDPOINT;
+import static TestData.SuperheroTestData.HERO_WITH_INVALID_DATE;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ResponseParsingBenchmarks {
+
+    private static final int WARMUP_CHAINS = 100;
+    private static final int MEASURED_CHAINS = 500;
+    private static final int ASSERTIONS_PER_CHAIN = 4;
+
+    private ResponseParsingBenchmarks() {
+    }
+
+    static void perAssertionCost(BenchmarkReport report, Path workDirectory) {
+        RequestSpecification spec = new RequestSpecBuilder()
+                .setBaseUri(SuperheroStub.get().getBaseUrl())
+                .setContentType(ContentType.JSON)
+                .build();
+        ValidatableResponse response = given(spec).body(HERO_WITH_INVALID_DATE).post(SUPERHERO_ENDPOINT).then();
+
+        Runnable reparsingChain = () -> {
+            assertThat(response.extract().jsonPath().getString("status")).isEqualTo("400");
+            assertThat(response.extract().jsonPath().getString("error")).isEqualTo("Bad Request");
+            assertThat(response.extract().jsonPath().getString("message")).isNotNull();
+            assertThat(response.extract().jsonPath().getString("message")).contains("JSON parse error");
+        };
+        Runnable memoizedChain = () -> assertThat(new SuperheroResponse(response)
+                .jsonValueCompare("status", "400")
+                .jsonValueCompare("error", "Bad Request")
+                .jsonValueIsNotNull("message")
+                .getJsonValue("message")).contains("JSON parse error");
+
+        double before = nanosPerAssertion(reparsingChain);
+        double after = nanosPerAssertion(memoizedChain);
+        report.line("re-parsing GPath: %.0f ns/assertion, memoized tree: %.0f ns/assertion (%.1fx)",
+                before, after, before / after);
+        assertThat(after).isLessThan(before);
+    }
+
+    static void pathEvaluationColdAndSteadyState(BenchmarkReport report, Path workDirectory) throws Exception {
+        int heroes = 200;
+        StringBuilder json = new StringBuilder("{\"status\":200,\"heroes\":[");
+        for (int i = 0; i < heroes; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"fullName\":\"Hero ").append(i)
+                    .append("\",\"city\":\"City ").append(i).append("\"}");
+        }
+        String body = json.append("]}").toString();
+        JsonPath gpath = new JsonPath(body);
+        JsonNode tree = new ObjectMapper().readTree(body);
+
+        long gpathCold = 0;
+        long compiledCold = 0;
+        for (int i = 0; i < heroes; i++) {
+            String path = "heroes.find { it.city == 'City " + i + "' }.fullName";
+            long start = System.nanoTime();
+            String expected = gpath.getString(path);
+            gpathCold += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            String actual = CompiledJsonPath.compile(path).orElseThrow().evaluate(tree).asText();
+            compiledCold += System.nanoTime() - start;
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        String steadyPath = "heroes[" + (heroes / 2) + "].fullName";
+        double gpathSteady = nanosPerEvaluation(() -> gpath.getString(steadyPath));
+        double compiledSteady = nanosPerEvaluation(
+                () -> CompiledJsonPath.compile(steadyPath).orElseThrow().evaluate(tree).asText());
+
+        report.line("cold (first use of a path): GPath %.0f ns, compiled %.0f ns (%.1fx)",
+                (double) gpathCold / heroes, (double) compiledCold / heroes, (double) gpathCold / compiledCold);
+        report.line("steady state: GPath %.0f ns, compiled %.0f ns (%.1fx)",
+                gpathSteady, compiledSteady, gpathSteady / compiledSteady);
+        assertThat(compiledCold).isLessThan(gpathCold);
+        assertThat(compiledSteady).isLessThan(gpathSteady);
+    }
+
+    static void streamingComparisonHeap(BenchmarkReport report, Path workDirectory) throws Exception {
+        ObjectReader heroReader = new ObjectMapper().readerFor(Superhero.class);
+        long largestStreamedPeak = 0;
+        for (int heroes : new int[]{10, 10_000, 1_000_000}) {
+            long baseline = usedHeapAfterGc();
+            long sampleEvery = Math.max(1, heroes / 10);
+            long[] peak = {0};
+            long streamed = JsonArrayStream.<Superhero>forEach(new GeneratedHeroArray(heroes), heroReader, hero -> {
+                assertThat(hero.getFullName()).isEqualTo("Hero " + hero.getId());
+                if (hero.getId() % sampleEvery == 0) {
+                    peak[0] = Math.max(peak[0], usedHeapAfterGc() - baseline);
+                }
+            });
+            assertThat(streamed).isEqualTo(heroes);
+            report.line("streamed %,d heroes: peak retained heap %,d KB", heroes, peak[0] / 1024);
+            largestStreamedPeak = peak[0];
+        }
+
+        long baseline = usedHeapAfterGc();
+        Superhero[] materialized = heroReader.forType(Superhero[].class).readValue(new GeneratedHeroArray(100_000));
+        long materializedHeap = usedHeapAfterGc() - baseline;
+        report.line("materialized %,d heroes: retained heap %,d KB", materialized.length, materializedHeap / 1024);
+        // ten times as many heroes streamed still retain less than the materialized array
+        assertThat(largestStreamedPeak).isLessThan(materializedHeap);
+    }
+
+    // a single System.gc() can leave garbage behind, which would skew a before/after difference
+    private static long usedHeapAfterGc() {
+        long used = Long.MAX_VALUE;
+        for (int collections = 0; collections < 5; collections++) {
+            System.gc();
+            long now = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+
+    private static double nanosPerEvaluation(Supplier<String> evaluation) {
+        for (int i = 0; i < WARMUP_CHAINS; i++) {
+            evaluation.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_CHAINS; i++) {
+            evaluation.get();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_CHAINS;
+    }
+
+    private static double nanosPerAssertion(Runnable chain) {
+        for (int i = 0; i < WARMUP_CHAINS; i++) {
+            chain.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_CHAINS; i++) {
+            chain.run();
+        }
+        return (double) (System.nanoTime() - start) / (MEASURED_CHAINS * ASSERTIONS_PER_CHAIN);
+    }
+
+    /**
+     * Produces {@code [hero0,hero1,...]} on demand so arbitrarily long bodies never exist in memory at once.
+     */
+    private static class GeneratedHeroArray extends InputStream {
+
+        private final int heroes;
+        private int next;
+        private byte[] chunk = "[".getBytes(StandardCharsets.UTF_8);
+        private int position;
+
+        GeneratedHeroArray(int heroes) {
+            this.heroes = heroes;
+        }
+
+        @Override
+        public int read() {
+            if (position == chunk.length && !nextChunk()) {
+                return -1;
+            }
+            return chunk[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == chunk.length && !nextChunk()) {
+                return -1;
+            }
+            int count = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean nextChunk() {
+            if (next > heroes) {
+                return false;
+            }
+            String text = next == heroes ? "]" : (next == 0 ? "" : ",")
+                    + "{\"birthDate\":\"2000-01-01\",\"city\":\"City " + next + "\",\"fullName\":\"Hero " + next
+                    + "\",\"gender\":\"M\",\"id\":" + next + ",\"mainSkill\":\"Skill\",\"phone\":\"123\"}";
+            chunk = text.getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            next++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package Benchmarking;
+
+import Reporting.BenchmarkReport;
+
+import java.nio.file.Path;
+
+/**
+ * The in-suite benchmarks: end-to-end scenarios against the stubs that are too coarse for JMH. Each one asserts
+ * the improvement it measures and writes its numbers to a {@link BenchmarkReport}.
+ */
+public enum SuiteBenchmark {
+
+    PER_ASSERTION_COST("per-assertion cost of re-parsing GPath lookups vs the memoized body tree",
+            ResponseParsingBenchmarks::perAssertionCost),
+    PATH_EVALUATION("cold and steady-state path evaluation: GPath vs compiled path on an already parsed body",
+            ResponseParsingBenchmarks::pathEvaluationColdAndSteadyState),
+    STREAMING_HEAP("retained heap while streaming hero arrays of growing size",
+            ResponseParsingBenchmarks::streamingComparisonHeap),
+    BULK_CLEANUP("cleanup of leftover heroes: one delete at a time vs bounded concurrent bulk delete",
+            BulkCleanupBenchmarks::serialVsBulkCleanup),
+    ASYNC_FAN_OUT("1000 gets on virtual threads vs the same gets sent one by one",
+            AsyncFanOutBenchmarks::fanOutGetsOverlap),
+    DOWNLOAD_LARGER_THAN_HEAP("a download larger than the whole heap streams to disk with a matching checksum",
+            DownloadBenchmarks::downloadLargerThanHeap),
+    SEGMENTED_DOWNLOAD("throughput of a throttled download at 1, 4 and 8 segments",
+            DownloadBenchmarks::segmentCountComparison),
+    BULK_USER_SEEDING("seeding 10k users: one create and one wait per user vs chunked bulk creates with one wait",
+            BulkUserSeedingBenchmarks::oneByOneVsBulk),
+    POOLED_CONNECTIONS("sequential gets over one kept-alive pool vs a new connection per request",
+            ConnectionPoolBenchmarks::pooledConnectionsSkipHandshakes),
+    POOL_WARM_UP("first get on a cold pool vs on a pool warmed up before the suite",
+            ConnectionPoolBenchmarks::warmUpTakesConnectSetupOffTheFirstRequest);
+
+    private final String description;
+    private final Body body;
+
+    SuiteBenchmark(String description, Body body) {
+        this.description = description;
+        this.body = body;
+    }
+
+    public void run(BenchmarkReport report, Path workDirectory) throws Exception {
+        body.run(report, workDirectory);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    @FunctionalInterface
+    interface Body {
+        void run(BenchmarkReport report, Path workDirectory) throws Exception;
+    }
+}
@@ -0,0 +1,56 @@
+package Cleanup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * The capped worker pool and the chunking shared by {@link BulkDelete} and {@link BulkCreate}.
+ */
+public final class BulkCalls {
+
+    private BulkCalls() {
+    }
+
+    /**
+     * Runs {@code action} for every key from a pool capped at {@code maxInFlight} and returns once all are done.
+     */
+    public static <K> void forEach(Collection<K> keys, int maxInFlight, String threadName, Consumer<K> action) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1, was " + maxInFlight);
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        ExecutorService workers = newPool(threadName, Math.min(maxInFlight, keys.size()));
+        try {
+            CompletableFuture.allOf(keys.stream()
+                    .map(key -> CompletableFuture.runAsync(() -> action.accept(key), workers))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    static ExecutorService newPool(String name, int threads) {
+        return Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // the next chunkSize items, or fewer at the end
+    static <T> List<T> nextChunk(Iterator<T> items, int chunkSize) {
+        List<T> chunk = new ArrayList<>(chunkSize);
+        while (chunk.size() < chunkSize && items.hasNext()) {
+            chunk.add(items.next());
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,84 @@
+package Cleanup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+public final class BulkCreate {
+
+    private BulkCreate() {
+    }
+
+    /**
+     * Cuts {@code items} into chunks of {@code chunkSize} and sends each chunk with one call from a pool capped at
+     * {@code maxInFlight}. A chunk is only read from the stream once a call slot is free, so at most
+     * {@code maxInFlight} chunks are held at a time. Every item of a chunk whose status {@code created} rejects is
+     * collected as a failure.
+     */
+    public static <T, K> BulkCreateSummary<K> run(Stream<T> items, int chunkSize, int maxInFlight,
+                                                  ToIntFunction<List<T>> createCall, IntPredicate created,
+                                                  Function<T, K> key, Consumer<K> onCreated) {
+        if (chunkSize < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("chunkSize and maxInFlight must be at least 1, were "
+                    + chunkSize + " and " + maxInFlight);
+        }
+        List<K> createdKeys = Collections.synchronizedList(new ArrayList<>());
+        Map<K, String> failures = new ConcurrentHashMap<>();
+        LongAdder serialNanos = new LongAdder();
+        int requested = 0;
+        int chunks = 0;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService workers = BulkCalls.newPool("bulk-create", maxInFlight);
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            Iterator<T> remaining = items.iterator();
+            while (remaining.hasNext()) {
+                inFlight.acquireUninterruptibly();
+                List<T> chunk = BulkCalls.nextChunk(remaining, chunkSize);
+                requested += chunk.size();
+                chunks++;
+                calls.add(CompletableFuture.runAsync(() -> {
+                    long callStart = System.nanoTime();
+                    try {
+                        int status = createCall.applyAsInt(chunk);
+                        boolean accepted = created.test(status);
+                        for (T item : chunk) {
+                            K itemKey = key.apply(item);
+                            if (accepted) {
+                                onCreated.accept(itemKey);
+                                createdKeys.add(itemKey);
+                            } else {
+                                failures.put(itemKey, "status " + status);
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        chunk.forEach(item -> failures.put(key.apply(item), e.toString()));
+                    } finally {
+                        serialNanos.add(System.nanoTime() - callStart);
+                        inFlight.release();
+                    }
+                }, workers));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            workers.shutdownNow();
+        }
+        return new BulkCreateSummary<>(requested, List.copyOf(createdKeys), Map.copyOf(failures), chunks,
+                chunkSize, maxInFlight, Duration.ofNanos(System.nanoTime() - start), Duration.ofNanos(serialNanos.sum()),
+                null);
+    }
+}
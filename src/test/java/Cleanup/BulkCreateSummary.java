@@ -0,0 +1,30 @@
+package Cleanup;
+
+import Waits.WaitStats;
+import lombok.Value;
+import lombok.With;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Value
+public class BulkCreateSummary<K> {
+    int requested;
+    List<K> created;
+    Map<K, String> failures;
+    int chunks;
+    int chunkSize;
+    int maxInFlight;
+    // from the first chunk sent until the last one answered
+    Duration elapsed;
+    // sum of every chunk call's own duration, i.e. what the same chunks would have cost one after another
+    Duration serialTime;
+    // the one wait for every created key to become readable; null until it ran
+    @With
+    WaitStats visibility;
+
+    public boolean isClean() {
+        return failures.isEmpty() && (visibility == null || visibility.isConverged());
+    }
+}
@@ -0,0 +1,51 @@
+package Cleanup;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+public final class BulkDelete {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = Integer.getInteger("cleanup.maxInFlight", 16);
+
+    private BulkDelete() {
+    }
+
+    /**
+     * Sends one delete per key from a pool capped at {@code maxInFlight} and waits for all of them. A key counts
+     * as deleted when {@code gone} accepts its status; everything else is collected as a failure.
+     */
+    public static <K> BulkDeleteSummary<K> run(Collection<K> keys, int maxInFlight, ToIntFunction<K> deleteCall,
+                                               IntPredicate gone, Consumer<K> onDeleted) {
+        Map<K, String> failures = new ConcurrentHashMap<>();
+        LongAdder serialNanos = new LongAdder();
+        LongAccumulator slowestNanos = new LongAccumulator(Math::max, 0);
+        long start = System.nanoTime();
+        BulkCalls.forEach(keys, maxInFlight, "bulk-delete", key -> {
+            long callStart = System.nanoTime();
+            try {
+                int status = deleteCall.applyAsInt(key);
+                if (gone.test(status)) {
+                    onDeleted.accept(key);
+                } else {
+                    failures.put(key, "status " + status);
+                }
+            } catch (RuntimeException e) {
+                failures.put(key, e.toString());
+            } finally {
+                long callNanos = System.nanoTime() - callStart;
+                serialNanos.add(callNanos);
+                slowestNanos.accumulate(callNanos);
+            }
+        });
+        return new BulkDeleteSummary<>(keys.size(), keys.size() - failures.size(), Map.copyOf(failures), maxInFlight,
+                Duration.ofNanos(System.nanoTime() - start), Duration.ofNanos(slowestNanos.get()),
+                Duration.ofNanos(serialNanos.sum()));
+    }
+}
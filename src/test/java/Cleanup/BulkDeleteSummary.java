@@ -0,0 +1,22 @@
+package Cleanup;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Value
+public class BulkDeleteSummary<K> {
+    int requested;
+    int deleted;
+    Map<K, String> failures;
+    int maxInFlight;
+    Duration elapsed;
+    Duration slowestCall;
+    // sum of every call's own duration, i.e. what the same deletes would have cost one after another
+    Duration serialTime;
+
+    public boolean isClean() {
+        return failures.isEmpty();
+    }
+}
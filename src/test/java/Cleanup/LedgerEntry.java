@@ -0,0 +1,10 @@
+package Cleanup;
+
+import lombok.Value;
+
+@Value
+public class LedgerEntry {
+    ResourceType type;
+    String baseUrl;
+    String key;
+}
@@ -0,0 +1,115 @@
+package Cleanup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Append-only file of CREATED/DELETED lines for one test run. Lines are flushed as they are written so a killed
+ * run still leaves a usable record; a run that ends with nothing outstanding removes its file on exit.
+ */
+public final class LedgerJournal {
+
+    private static final String CREATED = "CREATED";
+    private static final String DELETED = "DELETED";
+
+    private final Path file;
+    private final Set<LedgerEntry> outstanding = new LinkedHashSet<>();
+    private BufferedWriter writer;
+
+    private LedgerJournal(Path file) {
+        this.file = file;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    }
+
+    public static LedgerJournal current() {
+        return Holder.INSTANCE;
+    }
+
+    public static Path directory() {
+        return Path.of(System.getProperty("cleanup.ledgerDir", "build/resource-ledger"));
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public synchronized void created(LedgerEntry entry) {
+        outstanding.add(entry);
+        append(CREATED, entry);
+    }
+
+    public synchronized void deleted(LedgerEntry entry) {
+        outstanding.remove(entry);
+        append(DELETED, entry);
+    }
+
+    public static Set<LedgerEntry> readOutstanding(Path journal) throws IOException {
+        Set<LedgerEntry> outstanding = new LinkedHashSet<>();
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            String[] fields = line.split("\t", 4);
+            // the last line of a killed run may be cut short
+            if (fields.length < 4) {
+                continue;
+            }
+            LedgerEntry entry = new LedgerEntry(ResourceType.valueOf(fields[1]), fields[2], fields[3]);
+            if (fields[0].equals(CREATED)) {
+                outstanding.add(entry);
+            } else {
+                outstanding.remove(entry);
+            }
+        }
+        return outstanding;
+    }
+
+    public static void write(Path journal, Set<LedgerEntry> outstanding) throws IOException {
+        List<String> lines = outstanding.stream().map(entry -> line(CREATED, entry)).toList();
+        Files.write(journal, lines, StandardCharsets.UTF_8);
+    }
+
+    private void append(String action, LedgerEntry entry) {
+        try {
+            if (writer == null) {
+                Files.createDirectories(file.getParent());
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(line(action, entry));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write resource ledger " + file, e);
+        }
+    }
+
+    private static String line(String action, LedgerEntry entry) {
+        return action + "\t" + entry.getType() + "\t" + entry.getBaseUrl() + "\t" + entry.getKey();
+    }
+
+    private synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+            if (outstanding.isEmpty()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ignored) {
+            // the journal stays behind and the next recovery run reads it
+        }
+    }
+
+    private static class Holder {
+        private static final LedgerJournal INSTANCE = new LedgerJournal(directory().resolve(
+                "run-" + System.currentTimeMillis() + "-" + ProcessHandle.current().pid() + ".log"));
+    }
+}
@@ -0,0 +1,84 @@
+package Cleanup;
+
+import Controllers.FluentSuperheroController;
+import Controllers.UserController;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Deletes what crashed runs left behind, using the journals they wrote. Entries for embedded stubs are dropped
+ * because those stubs died with the run; entries that still fail to delete are kept for the next attempt.
+ */
+public final class LedgerRecovery {
+
+    private LedgerRecovery() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = args.length > 0 ? Path.of(args[0]) : LedgerJournal.directory();
+        Map<Path, Set<LedgerEntry>> leftovers = recover(directory, LedgerRecovery::isRemote);
+        leftovers.forEach((journal, entries) ->
+                System.out.println(journal + ": " + entries.size() + " resources could not be deleted"));
+    }
+
+    public static Map<Path, Set<LedgerEntry>> recover(Path directory, Predicate<String> recoverableBaseUrl)
+            throws IOException {
+        Map<Path, Set<LedgerEntry>> leftovers = new LinkedHashMap<>();
+        if (!Files.isDirectory(directory)) {
+            return leftovers;
+        }
+        List<Path> journals;
+        try (Stream<Path> files = Files.list(directory)) {
+            journals = files.filter(file -> file.getFileName().toString().endsWith(".log"))
+                    .filter(file -> !file.equals(LedgerJournal.current().getFile()))
+                    .sorted()
+                    .toList();
+        }
+        for (Path journal : journals) {
+            Set<LedgerEntry> remaining = new LinkedHashSet<>();
+            Map<String, Map<ResourceType, List<LedgerEntry>>> byHost = LedgerJournal.readOutstanding(journal).stream()
+                    .filter(entry -> recoverableBaseUrl.test(entry.getBaseUrl()))
+                    .collect(Collectors.groupingBy(LedgerEntry::getBaseUrl, LinkedHashMap::new,
+                            Collectors.groupingBy(LedgerEntry::getType)));
+            byHost.forEach((baseUrl, byType) -> byType.forEach((type, entries) ->
+                    remaining.addAll(delete(baseUrl, type, entries))));
+
+            if (remaining.isEmpty()) {
+                Files.delete(journal);
+            } else {
+                LedgerJournal.write(journal, remaining);
+                leftovers.put(journal, remaining);
+            }
+        }
+        return leftovers;
+    }
+
+    private static List<LedgerEntry> delete(String baseUrl, ResourceType type, List<LedgerEntry> entries) {
+        Map<String, LedgerEntry> byKey = entries.stream()
+                .collect(Collectors.toMap(LedgerEntry::getKey, entry -> entry, (first, second) -> first));
+        Set<String> failed = switch (type) {
+            case HERO -> new FluentSuperheroController(baseUrl)
+                    .deleteHeroes(byKey.keySet().stream().map(Long::valueOf).toList())
+                    .getFailures().keySet().stream().map(String::valueOf).collect(Collectors.toSet());
+            case USER -> new UserController(baseUrl).deleteUsers(byKey.keySet()).getFailures().keySet();
+        };
+        return failed.stream().map(byKey::get).toList();
+    }
+
+    private static boolean isRemote(String baseUrl) {
+        try {
+            return !InetAddress.getByName(URI.create(baseUrl).getHost()).isLoopbackAddress();
+        } catch (UnknownHostException | IllegalArgumentException e) {
+            return true;
+        }
+    }
+}
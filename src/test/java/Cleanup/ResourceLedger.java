@@ -0,0 +1,39 @@
+package Cleanup;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What one controller has created and not yet deleted on one host. Every change is also written through to
+ * the run's {@link LedgerJournal}, so resources outlive a crashed run only on disk, not unnoticed.
+ */
+public class ResourceLedger {
+
+    private final String baseUrl;
+    private final Map<ResourceType, Set<String>> outstanding = new EnumMap<>(ResourceType.class);
+
+    public ResourceLedger(String baseUrl) {
+        this.baseUrl = baseUrl;
+        for (ResourceType type : ResourceType.values()) {
+            outstanding.put(type, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public void created(ResourceType type, String key) {
+        if (key != null && outstanding.get(type).add(key)) {
+            LedgerJournal.current().created(new LedgerEntry(type, baseUrl, key));
+        }
+    }
+
+    public void deleted(ResourceType type, String key) {
+        if (key != null && outstanding.get(type).remove(key)) {
+            LedgerJournal.current().deleted(new LedgerEntry(type, baseUrl, key));
+        }
+    }
+
+    public Set<String> outstanding(ResourceType type) {
+        return Set.copyOf(outstanding.get(type));
+    }
+}
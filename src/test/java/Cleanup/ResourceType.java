@@ -0,0 +1,6 @@
+package Cleanup;
+
+public enum ResourceType {
+    HERO,
+    USER
+}
@@ -1,8 +1,21 @@
 package Constants;
 
+import Stubs.PetstoreStub;
+import Stubs.StubServer;
+import Stubs.SuperheroStub;
+
+import java.time.Duration;
+
 public class Constants {
-    public static final String BASE_URL = "https://petstore.swagger.io/";
+    public static final String BASE_URL =
+            PetstoreStub.resolveBaseUrl(System.getProperty("petstore.baseUrl", StubServer.EMBEDDED));
     public static final String USER_ENDPOINT = "user";
-    public static final String BASE_SUPERHERO_URL = "https://superhero.qa-test.csssr.com/";
+    public static final String PET_ENDPOINT = "pet/";
+    public static final String BASE_SUPERHERO_URL =
+            SuperheroStub.resolveBaseUrl(System.getProperty("superhero.baseUrl", StubServer.EMBEDDED));
     public static final String SUPERHERO_ENDPOINT = "superheroes/";
+    public static final Duration SUPERHERO_LATENCY_BUDGET =
+            Duration.ofMillis(Long.getLong("superhero.latencyBudgetMillis", 5000));
+    public static final Duration PETSTORE_LATENCY_BUDGET =
+            Duration.ofMillis(Long.getLong("petstore.latencyBudgetMillis", 5000));
 }
@@ -0,0 +1,19 @@
+package Controllers;
+
+/**
+ * The two Petstore bulk create calls; both take a JSON array of users and answer once for the whole batch.
+ */
+public enum BulkUserEndpoint {
+    ARRAY("createWithArray"),
+    LIST("createWithList");
+
+    private final String path;
+
+    BulkUserEndpoint(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
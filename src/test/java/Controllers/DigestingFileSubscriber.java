@@ -0,0 +1,112 @@
+package Controllers;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes each body buffer to a part file and into a SHA-256 digest as it arrives, then renames the part file onto
+ * the target. Only one batch is requested at a time, so memory use does not depend on the size of the body.
+ */
+class DigestingFileSubscriber implements HttpResponse.BodySubscriber<DownloadResult> {
+
+    private final Path target;
+    private final Path partFile;
+    private final HttpResponse.ResponseInfo info;
+    private final long startNanos;
+    private final CompletableFuture<DownloadResult> result = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+    private FileChannel channel;
+    private MessageDigest digest;
+    private long bytes;
+
+    DigestingFileSubscriber(Path target, HttpResponse.ResponseInfo info, long startNanos) {
+        this.target = target;
+        this.partFile = target.resolveSibling(target.getFileName() + ".part");
+        this.info = info;
+        this.startNanos = startNanos;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+            channel = FileChannel.open(partFile, CREATE, TRUNCATE_EXISTING, WRITE);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            subscription.cancel();
+            result.completeExceptionally(e);
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        try {
+            for (ByteBuffer buffer : buffers) {
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    bytes += channel.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            subscription.cancel();
+            fail(e);
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        fail(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            channel.close();
+            Files.move(partFile, target, REPLACE_EXISTING);
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        result.complete(new DownloadResult(target, info.statusCode(),
+                info.headers().firstValue("Content-Type").orElse(null), bytes,
+                HexFormat.of().formatHex(digest.digest()), Duration.ofNanos(System.nanoTime() - startNanos), 1, 0));
+    }
+
+    @Override
+    public CompletionStage<DownloadResult> getBody() {
+        return result;
+    }
+
+    private void fail(Throwable cause) {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            Files.deleteIfExists(partFile);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        result.completeExceptionally(cause);
+    }
+}
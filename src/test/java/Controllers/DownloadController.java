@@ -0,0 +1,59 @@
+package Controllers;
+
+import io.qameta.allure.Step;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Downloads files straight to disk. RestAssured keeps the whole body on the heap before anything can read it, so
+ * this goes through the JDK client and {@link DigestingFileSubscriber} instead.
+ */
+public class DownloadController {
+
+    // HTTP/1.1 so that concurrent segments each get a connection of their own; one client for every controller,
+    // as each JDK client keeps a selector thread and a connection pool until it is closed
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @Step("Download {url} to {target}")
+    public DownloadResult download(String url, Path target) throws IOException, InterruptedException {
+        createParentDirectories(target);
+        return stream(url, target);
+    }
+
+    @Step("Download {url} to {target} in {segments} segments")
+    public DownloadResult download(String url, Path target, int segments) throws IOException, InterruptedException {
+        createParentDirectories(target);
+        DownloadResult result = segments > 1
+                ? new SegmentedDownload(CLIENT, URI.create(url), target, segments).run()
+                : null;
+        return result != null ? result : stream(url, target);
+    }
+
+    private DownloadResult stream(String url, Path target) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        long start = System.nanoTime();
+        return CLIENT.send(request, info -> info.statusCode() / 100 == 2
+                ? new DigestingFileSubscriber(target, info, start)
+                : HttpResponse.BodySubscribers.replacing(DownloadResult.notDownloaded(info.statusCode(),
+                        info.headers().firstValue("Content-Type").orElse(null),
+                        Duration.ofNanos(System.nanoTime() - start)))).body();
+    }
+
+    private static void createParentDirectories(Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package Controllers;
+
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Value
+public class DownloadResult {
+    Path file;
+    int statusCode;
+    String contentType;
+    long bytes;
+    String sha256;
+    Duration elapsed;
+    int segments;
+    long resumedBytes;
+
+    static DownloadResult notDownloaded(int statusCode, String contentType, Duration elapsed) {
+        return new DownloadResult(null, statusCode, contentType, 0, null, elapsed, 0, 0);
+    }
+
+    public double getMegabytesPerSecond() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : (bytes - resumedBytes) / (1024.0 * 1024.0) / seconds;
+    }
+}
@@ -0,0 +1,137 @@
+package Controllers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Progress of a segmented download, kept next to the part file so an interrupted download can pick up where each
+ * segment stopped. Only bytes already forced to the part file are saved as done.
+ */
+class DownloadState {
+
+    private final Path sidecar;
+    private final String url;
+    private final long length;
+    private final String validator;
+    private final List<Segment> segments;
+
+    private DownloadState(Path sidecar, String url, long length, String validator, List<Segment> segments) {
+        this.sidecar = sidecar;
+        this.url = url;
+        this.length = length;
+        this.validator = validator;
+        this.segments = segments;
+    }
+
+    static DownloadState fresh(Path sidecar, String url, long length, String validator, int segmentCount) {
+        List<Segment> segments = new ArrayList<>();
+        long segmentLength = Math.max(1, (length + segmentCount - 1) / segmentCount);
+        for (long start = 0; start < length; start += segmentLength) {
+            segments.add(new Segment(start, Math.min(length, start + segmentLength) - 1, 0));
+        }
+        return new DownloadState(sidecar, url, length, validator, segments);
+    }
+
+    /**
+     * The saved state, or null when there is none or it belongs to a different version of the file.
+     */
+    static DownloadState load(Path sidecar, String url, long length, String validator) throws IOException {
+        if (!Files.exists(sidecar)) {
+            return null;
+        }
+        Properties saved = new Properties();
+        try (InputStream in = Files.newInputStream(sidecar)) {
+            saved.load(in);
+        }
+        if (!url.equals(saved.getProperty("url"))
+                || length != Long.parseLong(saved.getProperty("length", "-1"))
+                || !Objects.equals(validator, saved.getProperty("validator"))) {
+            return null;
+        }
+        List<Segment> segments = new ArrayList<>();
+        int count = Integer.parseInt(saved.getProperty("segments", "0"));
+        for (int i = 0; i < count; i++) {
+            String[] bounds = saved.getProperty("segment." + i).split(",");
+            segments.add(new Segment(Long.parseLong(bounds[0]), Long.parseLong(bounds[1]), Long.parseLong(bounds[2])));
+        }
+        return new DownloadState(sidecar, url, length, validator, segments);
+    }
+
+    List<Segment> getSegments() {
+        return segments;
+    }
+
+    long getLength() {
+        return length;
+    }
+
+    String getValidator() {
+        return validator;
+    }
+
+    long doneBytes() {
+        return segments.stream().mapToLong(segment -> segment.done.get()).sum();
+    }
+
+    long[] progress() {
+        return segments.stream().mapToLong(segment -> segment.done.get()).toArray();
+    }
+
+    void save() throws IOException {
+        save(progress());
+    }
+
+    synchronized void save(long[] progress) throws IOException {
+        Properties state = new Properties();
+        state.setProperty("url", url);
+        state.setProperty("length", String.valueOf(length));
+        if (validator != null) {
+            state.setProperty("validator", validator);
+        }
+        state.setProperty("segments", String.valueOf(segments.size()));
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            state.setProperty("segment." + i, segment.first + "," + segment.last + "," + progress[i]);
+        }
+        Path temporary = sidecar.resolveSibling(sidecar.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary)) {
+            state.store(out, "segmented download state");
+        }
+        Files.move(temporary, sidecar, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(sidecar);
+    }
+
+    static class Segment {
+        final long first;
+        final long last;
+        final AtomicLong done;
+
+        Segment(long first, long last, long done) {
+            this.first = first;
+            this.last = last;
+            this.done = new AtomicLong(done);
+        }
+
+        long nextByte() {
+            return first + done.get();
+        }
+
+        boolean isComplete() {
+            return nextByte() > last;
+        }
+    }
+}
@@ -1,28 +1,66 @@
 package Controllers;
 
+import Cleanup.BulkDelete;
+import Cleanup.BulkDeleteSummary;
+import Cleanup.ResourceLedger;
+import Cleanup.ResourceType;
+import Json.JsonMapping;
 import Models.Superhero;
+import Reporting.CapturingAllureFilter;
+import Timing.ConnectionPool;
+import Timing.TimingFilter;
+import Waits.ReadinessWait;
 import io.qameta.allure.Step;
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.parsing.Parser;
+import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
 import static Constants.Constants.BASE_SUPERHERO_URL;
 import static Constants.Constants.SUPERHERO_ENDPOINT;
 import static io.restassured.RestAssured.given;
 
 public class FluentSuperheroController {
 
-    private RequestSpecification requestSpecification;
+    private final RequestSpecification requestSpecification;
+    private final RequestSpecification bareSpecification;
+    private final ResourceLedger ledger;
 
     public FluentSuperheroController(){
-        RestAssured.defaultParser = Parser.JSON;
+        this(BASE_SUPERHERO_URL);
+    }
+
+    public FluentSuperheroController(String baseUrl){
+        this(baseUrl, ConnectionPool.shared());
+    }
+
+    public FluentSuperheroController(String baseUrl, ConnectionPool connectionPool){
+        ledger = new ResourceLedger(baseUrl);
         requestSpecification = new RequestSpecBuilder()
-                .setBaseUri(BASE_SUPERHERO_URL)
+                .setBaseUri(baseUrl)
+                .setContentType(ContentType.JSON)
+                .setConfig(RestAssuredConfig.config()
+                        .httpClient(connectionPool.httpClientConfig())
+                        .objectMapperConfig(JsonMapping.restAssuredConfig()))
+                .addFilter(CapturingAllureFilter.configured())
+                .addFilter(new TimingFilter())
+                .build();
+        // the Allure filter buffers the whole body for its attachment and reports into the calling test's
+        // step tree, so streamed calls and bulk deletes fanned out to worker threads go without it; the *Async
+        // methods run the blocking ones and keep both filters, so their responses still carry timings
+        bareSpecification = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
                 .setContentType(ContentType.JSON)
-                .addFilter(new AllureRestAssured())
+                .setConfig(RestAssuredConfig.config()
+                        .httpClient(connectionPool.httpClientConfig())
+                        .objectMapperConfig(JsonMapping.restAssuredConfig()))
                 .build();
     }
 
@@ -30,57 +68,157 @@ public class FluentSuperheroController {
         return requestSpecification;
     }
 
+    public Set<Long> getCreatedHeroIds() {
+        return ledger.outstanding(ResourceType.HERO).stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
     @Step("create a hero")
     public SuperheroResponse createHero(Superhero hero){
-        this.requestSpecification.body(hero);
-        return new SuperheroResponse(given(this.requestSpecification).post(SUPERHERO_ENDPOINT).then());
+        SuperheroResponse response = respond(request().body(hero).post(SUPERHERO_ENDPOINT).then());
+        if (response.getStatusCode() == 200) {
+            ledger.created(ResourceType.HERO, String.valueOf(response.extractId()));
+        }
+        return response;
+    }
+
+    public CompletableFuture<SuperheroResponse> createHeroAsync(Superhero hero){
+        return VirtualThreads.supply(() -> createHero(hero));
     }
 
     @Step("update created hero")
     public SuperheroResponse updateHero(Superhero hero, long id){
-        this.requestSpecification.body(hero);
-        return new SuperheroResponse(given(this.requestSpecification).put(SUPERHERO_ENDPOINT + id).then());
+        return respond(request().body(hero).put(SUPERHERO_ENDPOINT + id).then());
+    }
+
+    public CompletableFuture<SuperheroResponse> updateHeroAsync(Superhero hero, long id){
+        return VirtualThreads.supply(() -> updateHero(hero, id));
     }
 
     @Step("get hero")
     public SuperheroResponse getHero(long id){
-        return new SuperheroResponse(given(this.requestSpecification).get(SUPERHERO_ENDPOINT + id).then());
+        return requestHero(id);
+    }
+
+    public CompletableFuture<SuperheroResponse> getHeroAsync(long id){
+        return VirtualThreads.supply(() -> getHero(id));
+    }
+
+    @Step("wait until hero is visible")
+    public SuperheroResponse awaitHeroVisible(long id){
+        return ReadinessWait.forOperation("hero visible")
+                .until(() -> requestHero(id), response -> response.getStatusCode() == 200 && response.extractId() == id);
+    }
+
+    public CompletableFuture<SuperheroResponse> awaitHeroVisibleAsync(long id){
+        return VirtualThreads.supply(() -> awaitHeroVisible(id));
+    }
+
+    /**
+     * Waits until the listed fields read back as in {@code expectedHero}, e.g. after an update; fields the caller
+     * does not assert on are left out, so a field the service drops cannot stall the wait until its timeout.
+     */
+    @Step("wait until hero shows {fields}")
+    public SuperheroResponse awaitHeroFields(long id, Superhero expectedHero, String... fields){
+        return ReadinessWait.forOperation("hero updated")
+                .until(() -> requestHero(id), response -> response.getStatusCode() == 200
+                        && response.matchesHero(expectedHero, Set.of(fields)));
+    }
+
+    public CompletableFuture<SuperheroResponse> awaitHeroFieldsAsync(long id, Superhero expectedHero, String... fields){
+        return VirtualThreads.supply(() -> awaitHeroFields(id, expectedHero, fields));
+    }
+
+    @Step("wait until hero is gone")
+    public SuperheroResponse awaitHeroGone(long id){
+        return ReadinessWait.forOperation("hero gone")
+                .until(() -> requestHero(id), response -> response.getStatusCode() == 400);
+    }
+
+    public CompletableFuture<SuperheroResponse> awaitHeroGoneAsync(long id){
+        return VirtualThreads.supply(() -> awaitHeroGone(id));
     }
 
     @Step("delete hero")
     public SuperheroResponse deleteHero(long id){
-        return new SuperheroResponse(given(this.requestSpecification).delete(SUPERHERO_ENDPOINT + id).then());
+        SuperheroResponse response = respond(request().delete(SUPERHERO_ENDPOINT + id).then());
+        if (response.getStatusCode() / 100 == 2) {
+            ledger.deleted(ResourceType.HERO, String.valueOf(id));
+        }
+        return response;
+    }
+
+    public CompletableFuture<SuperheroResponse> deleteHeroAsync(long id){
+        return VirtualThreads.supply(() -> deleteHero(id));
+    }
+
+    @Step("delete heroes created through this controller")
+    public BulkDeleteSummary<Long> deleteCreatedHeroes(){
+        return deleteHeroes(getCreatedHeroIds());
+    }
+
+    @Step("delete heroes in bulk")
+    public BulkDeleteSummary<Long> deleteHeroes(Collection<Long> ids){
+        return deleteHeroes(ids, BulkDelete.DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    @Step("delete heroes in bulk with at most {maxInFlight} requests in flight")
+    public BulkDeleteSummary<Long> deleteHeroes(Collection<Long> ids, int maxInFlight){
+        return BulkDelete.run(ids, maxInFlight,
+                id -> given(this.bareSpecification).delete(SUPERHERO_ENDPOINT + id).statusCode(),
+                status -> status / 100 == 2,
+                id -> ledger.deleted(ResourceType.HERO, String.valueOf(id)));
     }
 
     @Step("get all heroes")
     public SuperheroResponse getAllHeroes(){
-        return new SuperheroResponse(given(this.requestSpecification).get("superheroes").then());
+        return respond(request().get("superheroes").then());
+    }
+
+    public CompletableFuture<SuperheroResponse> getAllHeroesAsync(){
+        return VirtualThreads.supply(this::getAllHeroes);
+    }
+
+    @Step("stream all heroes")
+    public SuperheroStreamResponse streamAllHeroes(){
+        return new SuperheroStreamResponse(given(this.bareSpecification).get("superheroes"));
     }
 
     @Step("create a hero with invalid path")
     public SuperheroResponse createHeroWithInvalidPath(Superhero hero){
-        this.requestSpecification.body(hero);
-        return new SuperheroResponse(given(this.requestSpecification).post("wrong/").then());
+        return respond(request().body(hero).post("wrong/").then());
     }
 
     @Step("get all heroes with invalid path")
     public SuperheroResponse getAllHeroesWithInvalidPath(){
-        return new SuperheroResponse(given(this.requestSpecification).get("wrong/").then());
+        return respond(request().get("wrong/").then());
     }
 
     @Step("get hero with invalid path")
     public SuperheroResponse getHeroWithInvalidPath(long id){
-        return new SuperheroResponse(given(this.requestSpecification).get("wrong/" + id).then());
+        return respond(request().get("wrong/" + id).then());
     }
 
     @Step("delete hero with invalid path")
     public SuperheroResponse deleteHeroWithInvalidPath(long id){
-        return new SuperheroResponse(given(this.requestSpecification).delete("wrong/" + id).then());
+        return respond(request().delete("wrong/" + id).then());
     }
 
     @Step("update created hero with invalid path")
     public SuperheroResponse updateHeroWithInvalidPath(Superhero hero, long id){
-        this.requestSpecification.body(hero);
-        return new SuperheroResponse(given(this.requestSpecification).put("wrong/" + id).then());
+        return respond(request().body(hero).put("wrong/" + id).then());
+    }
+
+    private RequestSpecification request(){
+        RequestSpecification request = given(this.requestSpecification);
+        request.response().defaultParser(Parser.JSON);
+        return request;
+    }
+
+    private SuperheroResponse respond(ValidatableResponse response){
+        return new SuperheroResponse(response, TimingFilter.lastTimings());
+    }
+
+    private SuperheroResponse requestHero(long id){
+        return respond(request().get(SUPERHERO_ENDPOINT + id).then());
     }
 }
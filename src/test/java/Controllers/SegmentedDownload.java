@@ -0,0 +1,218 @@
+package Controllers;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Splits a download into byte ranges fetched concurrently, each written straight to its offset in a preallocated
+ * part file. Progress goes to a sidecar state file, so a failed run can be repeated and only fetches what is missing.
+ */
+class SegmentedDownload {
+
+    private static final long SAVE_EVERY_BYTES = 4L * 1024 * 1024;
+    private static final int HASH_BUFFER_SIZE = 1024 * 1024;
+
+    private final HttpClient client;
+    private final URI uri;
+    private final Path target;
+    private final Path partFile;
+    private final Path sidecar;
+    private final int segmentCount;
+
+    SegmentedDownload(HttpClient client, URI uri, Path target, int segmentCount) {
+        this.client = client;
+        this.uri = uri;
+        this.target = target;
+        this.partFile = target.resolveSibling(target.getFileName() + ".part");
+        this.sidecar = target.resolveSibling(target.getFileName() + ".download");
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * The finished download, or null when the server does not offer byte ranges and the caller should stream instead.
+     */
+    DownloadResult run() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<Void> head = client.send(HttpRequest.newBuilder(uri).method("HEAD", HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.discarding());
+        long length = head.headers().firstValueAsLong("Content-Length").orElse(-1);
+        boolean acceptsRanges = head.headers().allValues("Accept-Ranges").stream().anyMatch("bytes"::equalsIgnoreCase);
+        if (head.statusCode() != 200 || !acceptsRanges || length <= 0) {
+            return null;
+        }
+        String validator = head.headers().firstValue("ETag").or(() -> head.headers().firstValue("Last-Modified")).orElse(null);
+
+        DownloadState state = Files.exists(partFile) ? DownloadState.load(sidecar, uri.toString(), length, validator) : null;
+        if (state == null) {
+            state = DownloadState.fresh(sidecar, uri.toString(), length, validator, segmentCount);
+            try (RandomAccessFile file = new RandomAccessFile(partFile.toFile(), "rw")) {
+                file.setLength(length);
+            }
+            state.save();
+        }
+        long resumed = state.doneBytes();
+
+        try (FileChannel channel = FileChannel.open(partFile, WRITE)) {
+            fetchMissingRanges(channel, state);
+        }
+        String sha256 = sha256Of(partFile);
+        Files.move(partFile, target, REPLACE_EXISTING);
+        state.delete();
+        return new DownloadResult(target, 206, head.headers().firstValue("Content-Type").orElse(null), length, sha256,
+                Duration.ofNanos(System.nanoTime() - start), state.getSegments().size(), resumed);
+    }
+
+    private void fetchMissingRanges(FileChannel channel, DownloadState state) throws IOException, InterruptedException {
+        List<CompletableFuture<Void>> fetches = new ArrayList<>();
+        for (DownloadState.Segment segment : state.getSegments()) {
+            if (segment.isComplete()) {
+                continue;
+            }
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .header("Range", "bytes=" + segment.nextByte() + "-" + segment.last)
+                    .GET();
+            // if the file changed since HEAD, the server answers 200 with the whole new file instead of a range,
+            // which fails below rather than splicing two versions together
+            if (state.getValidator() != null) {
+                request.header("If-Range", state.getValidator());
+            }
+            fetches.add(client.sendAsync(request.build(), info -> info.statusCode() == 206
+                            ? new RangeSubscriber(channel, segment, state)
+                            : HttpResponse.BodySubscribers.replacing(null))
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 206) {
+                            throw new CompletionException(new IOException(
+                                    "Expected 206 for a range of " + uri + " but got " + response.statusCode()));
+                        }
+                    }));
+        }
+
+        // wait for every segment to settle, so the saved state reflects all the progress that was made
+        Throwable failure = null;
+        for (CompletableFuture<Void> fetch : fetches) {
+            try {
+                fetch.join();
+            } catch (CompletionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            }
+        }
+        if (Thread.interrupted()) {
+            saveProgress(channel, state);
+            throw new InterruptedException("Segmented download of " + uri + " was interrupted");
+        }
+        if (failure != null) {
+            saveProgress(channel, state);
+            throw new IOException("Segmented download of " + uri + " stopped at " + state.doneBytes() + " of "
+                    + state.getLength() + " bytes; run it again to resume", failure);
+        }
+    }
+
+    // the bytes go to disk before the state that counts them, or a resume after a crash would skip ranges never written;
+    // progress is read first so bytes other segments write during the force are not counted yet
+    private static void saveProgress(FileChannel channel, DownloadState state) throws IOException {
+        long[] progress = state.progress();
+        channel.force(false);
+        state.save(progress);
+    }
+
+    private static String sha256Of(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class RangeSubscriber implements HttpResponse.BodySubscriber<Void> {
+
+        private final FileChannel channel;
+        private final DownloadState.Segment segment;
+        private final DownloadState state;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private long unsavedBytes;
+
+        RangeSubscriber(FileChannel channel, DownloadState.Segment segment, DownloadState state) {
+            this.channel = channel;
+            this.segment = segment;
+            this.state = state;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            try {
+                for (ByteBuffer buffer : buffers) {
+                    while (buffer.hasRemaining()) {
+                        int written = channel.write(buffer, segment.nextByte());
+                        segment.done.addAndGet(written);
+                        unsavedBytes += written;
+                    }
+                }
+                if (unsavedBytes >= SAVE_EVERY_BYTES) {
+                    unsavedBytes = 0;
+                    saveProgress(channel, state);
+                }
+            } catch (IOException e) {
+                subscription.cancel();
+                result.completeExceptionally(e);
+                return;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (segment.isComplete()) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(new IOException("Range ending at byte " + segment.last + " of " + state.getLength()
+                        + " closed early at byte " + segment.nextByte()));
+            }
+        }
+
+        @Override
+        public CompletionStage<Void> getBody() {
+            return result;
+        }
+    }
+}
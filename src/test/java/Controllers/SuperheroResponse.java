@@ -1,23 +1,65 @@
 package Controllers;
 
+import Json.CompiledJsonPath;
+import Json.JsonMapping;
 import Models.Superhero;
 import Models.SuperheroError;
+import Models.SuperheroErrorFieldComparator;
+import Models.SuperheroFieldComparator;
+import Timing.RequestTimings;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import io.qameta.allure.Step;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.ValidatableResponse;
 import org.assertj.core.api.Assertions;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.IntStream;
-
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import java.util.Optional;
+import java.util.Set;
 
 public class SuperheroResponse {
 
+    private static final SuperheroFieldComparator HEROES = SuperheroFieldComparator.INSTANCE;
+    private static final SuperheroErrorFieldComparator ERRORS = SuperheroErrorFieldComparator.INSTANCE;
+    // the service assigns ids, so expected heroes never know theirs
+    private static final Set<String> IGNORE_ID = HEROES.ignoring("id");
+
     private final ValidatableResponse superResponse;
+    private final RequestTimings timings;
+    private JsonNode body;
+    private JsonPath gpath;
 
     public SuperheroResponse(ValidatableResponse response) {
+        this(response, null);
+    }
+
+    public SuperheroResponse(ValidatableResponse response, RequestTimings timings) {
         this.superResponse = response;
+        this.timings = timings;
+    }
+
+    public RequestTimings getTimings() {
+        return timings;
+    }
+
+    public int getStatusCode() {
+        return this.superResponse.extract().statusCode();
+    }
+
+    long extractId() {
+        return body().path("id").asLong();
+    }
+
+    public boolean matchesHero(Superhero expectedHero, Set<String> fields) {
+        Set<String> ignored = new HashSet<>(HEROES.fieldNames());
+        ignored.removeAll(HEROES.ignoring(fields.toArray(String[]::new)));
+        return HEROES.matches(bodyAs(Superhero.class), expectedHero, ignored);
     }
 
     @Step("Check status code")
@@ -26,64 +68,102 @@ public class SuperheroResponse {
         return this;
     }
 
+    @Step("Check that response arrived within {limit}")
+    public SuperheroResponse respondedWithin(Duration limit) {
+        Assertions.assertThat(timings).as("No timings recorded, the request did not pass TimingFilter").isNotNull();
+        Assertions.assertThat(timings.getTotal()).as("Response time (%s)", timings).isLessThanOrEqualTo(limit);
+        return this;
+    }
+
     @Step("compare json value by path with expected value")
     public SuperheroResponse jsonValueCompare(String path, String expectedValue){
-        String actualValue = this.superResponse.extract().jsonPath().getString(path);
+        String actualValue = valueAt(path);
         Assertions.assertThat(actualValue).as("Actual value is not equal to expected").isEqualTo(expectedValue);
         return this;
     }
 
     @Step("Check that json value is not null")
     public SuperheroResponse jsonValueIsNotNull(String path) {
-        String actualValue = this.superResponse.extract().jsonPath().getString(path);
+        String actualValue = valueAt(path);
         Assertions.assertThat(actualValue).isNotNull();
         return this;
     }
 
     @Step("Check that json value is null")
     public SuperheroResponse jsonValueIsNull(String path) {
-        String actualValue = this.superResponse.extract().jsonPath().getString(path);
+        String actualValue = valueAt(path);
         Assertions.assertThat(actualValue).isNull();
         return this;
     }
 
     @Step("Get json value by path")
     public String getJsonValue(String path) {
-        String value = this.superResponse.extract().jsonPath().getString(path);
+        String value = valueAt(path);
         Assertions.assertThat(value).isNotNull();
         return value;
     }
 
     @Step("Check response body with deserialization to superhero")
     public SuperheroResponse compareWithHero(Superhero expectedHero){
-        Superhero actualHero = this.superResponse.extract().body().as(Superhero.class);
-        expectedHero.setId(actualHero.getId());
-        Assertions.assertThat(actualHero).usingRecursiveComparison().isEqualTo(expectedHero);
+        Superhero actualHero = bodyAs(Superhero.class);
+        HEROES.assertMatches(actualHero, expectedHero, IGNORE_ID);
         return this;
     }
 
     @Step("Check error response body with deserialization to superhero error")
     public SuperheroResponse compareWithErrorBody(SuperheroError expectedHeroError){
-        SuperheroError actualHeroError = this.superResponse.extract().body().as(SuperheroError.class);
-        Assertions.assertThat(actualHeroError).usingRecursiveComparison().isEqualTo(expectedHeroError);
+        SuperheroError actualHeroError = bodyAs(SuperheroError.class);
+        ERRORS.assertMatches(actualHeroError, expectedHeroError, Set.of());
         return this;
     }
 
     @Step("parse as superhero")
     public Superhero getSuperheroFromResponse(){
-        Superhero hero = this.superResponse.extract().body().as(Superhero.class);
+        Superhero hero = bodyAs(Superhero.class);
         return hero;
     }
 
     @Step("turn response of all heroes into list and compare each hero")
     public List<Superhero> getAllHeroesAndCompareBodies(List<Superhero> expectedList){
-        Superhero[] response = this.superResponse.extract().body().as(Superhero[].class);
-        List<Superhero> actualList = Arrays.asList(response);
-        IntStream.range(0, actualList.size()).forEach(i ->{
-            Superhero actual = actualList.get(i);
-            Superhero expected = expectedList.get(i);
-            assertThat(actual).isEqualTo(expected);
-        });
+        List<Superhero> actualList = Arrays.asList(bodyAs(Superhero[].class));
+        HEROES.assertAllMatch(actualList, expectedList, Set.of());
         return actualList;
     }
+
+    private JsonNode body() {
+        if (body == null) {
+            try {
+                JsonNode parsed = JsonMapping.mapper().readTree(this.superResponse.extract().asByteArray());
+                body = parsed == null ? MissingNode.getInstance() : parsed;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Response body is not valid JSON", e);
+            }
+        }
+        return body;
+    }
+
+    private <T> T bodyAs(Class<T> type) {
+        try {
+            return JsonMapping.readerFor(type).readValue(body());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map response body to " + type.getSimpleName(), e);
+        }
+    }
+
+    private String valueAt(String path) {
+        Optional<CompiledJsonPath> compiled = CompiledJsonPath.compile(path);
+        if (compiled.isPresent()) {
+            JsonNode node = compiled.get().evaluate(body());
+            if (node.isMissingNode() || node.isNull()) {
+                return null;
+            }
+            if (node.isValueNode()) {
+                return node.asText();
+            }
+        }
+        if (gpath == null) {
+            gpath = new JsonPath(body().toString());
+        }
+        return gpath.getString(path);
+    }
 }
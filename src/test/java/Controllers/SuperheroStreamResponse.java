@@ -0,0 +1,121 @@
+package Controllers;
+
+import Json.JsonArrayStream;
+import Json.JsonMapping;
+import Models.Superhero;
+import Models.SuperheroFieldComparator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import org.assertj.core.api.Assertions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Response of a list call whose body is read straight from the connection. The body can be consumed once,
+ * so the comparison methods are terminal and return the number of heroes they walked.
+ */
+public class SuperheroStreamResponse {
+
+    private static final ObjectReader HERO_READER = JsonMapping.readerFor(Superhero.class);
+
+    private final Response response;
+    private Predicate<Superhero> scope = hero -> true;
+
+    public SuperheroStreamResponse(Response response) {
+        this.response = response;
+    }
+
+    public int getStatusCode() {
+        return this.response.statusCode();
+    }
+
+    @Step("Check status code")
+    public SuperheroStreamResponse statusCodeIs(int status) {
+        Assertions.assertThat(getStatusCode()).as("Status code").isEqualTo(status);
+        return this;
+    }
+
+    @Step("only look at heroes with the given ids")
+    public SuperheroStreamResponse onlyHeroesWithIds(Collection<Long> ids) {
+        Set<Long> wanted = Set.copyOf(ids);
+        this.scope = hero -> wanted.contains(hero.getId());
+        return this;
+    }
+
+    @Step("stream all heroes and compare them with expected heroes in order")
+    public long compareInOrder(Iterator<Superhero> expectedHeroes) {
+        long compared = forEachHero(new Consumer<>() {
+            private long index;
+
+            @Override
+            public void accept(Superhero actual) {
+                Assertions.assertThat(expectedHeroes.hasNext())
+                        .as("Unexpected extra hero at index %d: %s", index, actual).isTrue();
+                SuperheroFieldComparator.INSTANCE.assertMatches("Hero at index " + index, actual, expectedHeroes.next(),
+                        Set.of());
+                index++;
+            }
+        });
+        Assertions.assertThat(expectedHeroes.hasNext())
+                .as("Response ended after %d heroes but more were expected", compared).isFalse();
+        return compared;
+    }
+
+    @Step("stream all heroes and compare them with expected heroes in any order")
+    public long compareIgnoringOrder(Collection<Superhero> expectedHeroes) {
+        Map<Superhero, Integer> remaining = new HashMap<>();
+        expectedHeroes.forEach(hero -> remaining.merge(hero, 1, Integer::sum));
+
+        long compared = forEachHero(actual -> {
+            Integer left = remaining.get(actual);
+            Assertions.assertThat(left).as("Unexpected hero %s", actual).isNotNull();
+            if (left == 1) {
+                remaining.remove(actual);
+            } else {
+                remaining.put(actual, left - 1);
+            }
+        });
+        Assertions.assertThat(remaining).as("Expected heroes missing from the response").isEmpty();
+        return compared;
+    }
+
+    @Step("stream all heroes and check that each one matches")
+    public long allHeroesMatch(Predicate<Superhero> condition) {
+        return forEachHero(actual -> Assertions.assertThat(condition.test(actual))
+                .as("Hero does not match: %s", actual).isTrue());
+    }
+
+    @Step("stream all heroes and collect their ids")
+    public List<Long> heroIds() {
+        List<Long> ids = new ArrayList<>();
+        forEachHero(hero -> ids.add(hero.getId()));
+        return ids;
+    }
+
+    private long forEachHero(Consumer<Superhero> consumer) {
+        try (InputStream body = this.response.asInputStream()) {
+            long[] inScope = {0};
+            JsonArrayStream.<Superhero>forEach(body, HERO_READER, hero -> {
+                if (scope.test(hero)) {
+                    consumer.accept(hero);
+                    inScope[0]++;
+                }
+            });
+            return inScope[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not stream heroes from the response body", e);
+        }
+    }
+}
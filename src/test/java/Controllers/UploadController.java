@@ -0,0 +1,72 @@
+package Controllers;
+
+import Json.JsonMapping;
+import Models.BasicPetStoreResponse;
+import io.qameta.allure.Step;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import static Constants.Constants.BASE_URL;
+import static Constants.Constants.PET_ENDPOINT;
+
+/**
+ * Uploads pet images as multipart bodies streamed from disk: the part headers and closing delimiter are small
+ * in-memory pieces around {@link HttpRequest.BodyPublishers#ofFile(Path)}, so the file itself is never loaded.
+ */
+public class UploadController {
+
+    // one client for every controller: each JDK client owns a selector thread and a connection pool, and is
+    // only released when it is closed
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final String baseUrl;
+
+    public UploadController() {
+        this(BASE_URL);
+    }
+
+    public UploadController(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    @Step("Upload {file} as image of pet {petId}")
+    public UploadResult uploadImage(long petId, Path file, String contentType) throws IOException, InterruptedException {
+        String boundary = "----upload-" + UUID.randomUUID();
+        byte[] partHeaders = ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + file.getFileName() + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] closingDelimiter = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        long fileBytes = Files.size(file);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "v2/" + PET_ENDPOINT + petId + "/uploadImage"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.concat(
+                        HttpRequest.BodyPublishers.ofByteArray(partHeaders),
+                        HttpRequest.BodyPublishers.ofFile(file),
+                        HttpRequest.BodyPublishers.ofByteArray(closingDelimiter)))
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        String message = null;
+        if (response.statusCode() == 200) {
+            message = JsonMapping.readerFor(BasicPetStoreResponse.class).<BasicPetStoreResponse>readValue(response.body()).getMessage();
+        }
+        return new UploadResult(response.statusCode(), fileBytes,
+                partHeaders.length + fileBytes + closingDelimiter.length, elapsed, message);
+    }
+}
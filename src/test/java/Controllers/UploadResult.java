@@ -0,0 +1,14 @@
+package Controllers;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+public class UploadResult {
+    int statusCode;
+    long fileBytes;
+    long requestBytes;
+    Duration elapsed;
+    String message;
+}
@@ -1,112 +1,254 @@
 package Controllers;
 
+import Cleanup.BulkCalls;
+import Cleanup.BulkCreate;
+import Cleanup.BulkCreateSummary;
+import Cleanup.BulkDelete;
+import Cleanup.BulkDeleteSummary;
+import Cleanup.ResourceLedger;
+import Cleanup.ResourceType;
+import Json.JsonMapping;
 import Models.User;
+import Reporting.CapturingAllureFilter;
+import Timing.ConnectionPool;
+import Timing.RequestTimings;
+import Timing.TimingFilter;
+import Waits.ReadinessWait;
+import Waits.WaitStats;
 import io.qameta.allure.Step;
-import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.parsing.Parser;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
-import io.qameta.allure.restassured.AllureRestAssured;
+import org.assertj.core.api.Assertions;
+import org.awaitility.core.ConditionTimeoutException;
 
-import java.util.Objects;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import static Constants.Constants.*;
 import static io.restassured.RestAssured.given;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static java.util.concurrent.TimeUnit.SECONDS;
-import static org.awaitility.Awaitility.await;
 
 public class UserController {
 
+    public static final int DEFAULT_BULK_CHUNK_SIZE = Integer.getInteger("petstore.bulkChunkSize", 100);
+    public static final int DEFAULT_BULK_MAX_IN_FLIGHT = Integer.getInteger("petstore.bulkMaxInFlight", 8);
+
     private final RequestSpecification requestSpecification;
+    private final RequestSpecification bareSpecification;
+    private final ResourceLedger ledger;
 
     public UserController(){
-        RestAssured.defaultParser = Parser.JSON;
+        this(BASE_URL);
+    }
+
+    public UserController(String baseUrl){
+        ledger = new ResourceLedger(baseUrl);
         requestSpecification = new RequestSpecBuilder()
-                .setBaseUri(BASE_URL)
+                .setBaseUri(baseUrl)
+                .setBasePath("v2/")
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .setConfig(RestAssuredConfig.config()
+                        .httpClient(ConnectionPool.shared().httpClientConfig())
+                        .objectMapperConfig(JsonMapping.restAssuredConfig()))
+                .addFilter(CapturingAllureFilter.configured())
+                .addFilter(new TimingFilter())
+                .build();
+        // bulk calls fan out to worker threads, where the Allure filter has no test step to report into
+        bareSpecification = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
                 .setBasePath("v2/")
                 .setContentType(ContentType.JSON)
                 .setAccept(ContentType.JSON)
-                .addFilter( new AllureRestAssured())
+                .setConfig(RestAssuredConfig.config()
+                        .httpClient(ConnectionPool.shared().httpClientConfig())
+                        .objectMapperConfig(JsonMapping.restAssuredConfig()))
                 .build();
         }
 
+    public Set<String> getCreatedUsernames() {
+        return ledger.outstanding(ResourceType.USER);
+    }
+
     @Step("create user")
     public Response createUser(User user){
-        return given(requestSpecification)
+        Response response = request()
                 .body(user)
                 .post(USER_ENDPOINT)
                 .andReturn();
+        if (response.statusCode() == 200) {
+            ledger.created(ResourceType.USER, user.getUsername());
+        }
+        return response;
+    }
+
+    public CompletableFuture<Response> createUserAsync(User user){
+        return VirtualThreads.supply(() -> createUser(user));
+    }
+
+    @Step("create users in bulk")
+    public BulkCreateSummary<String> createUsers(Collection<User> users){
+        return createUsers(users.stream(), BulkUserEndpoint.LIST, DEFAULT_BULK_CHUNK_SIZE, DEFAULT_BULK_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Posts the users to a bulk endpoint in chunks of {@code chunkSize}, {@code maxInFlight} chunks at a time, then
+     * waits once for every created user to become readable instead of waiting for each user on its own.
+     */
+    @Step("create users in bulk, {chunkSize} per call")
+    public BulkCreateSummary<String> createUsers(Stream<User> users, BulkUserEndpoint endpoint, int chunkSize,
+                                                 int maxInFlight){
+        BulkCreateSummary<String> summary = BulkCreate.run(users, chunkSize, maxInFlight,
+                chunk -> given(bareSpecification).body(chunk).post(USER_ENDPOINT + "/" + endpoint.getPath()).statusCode(),
+                status -> status == 200,
+                User::getUsername,
+                username -> ledger.created(ResourceType.USER, username));
+        return summary.withVisibility(waitUntilUsersAreVisible(summary.getCreated(), maxInFlight));
     }
 
     @Step("update user")
     public Response updateUser(User user, String username){
-        return given(requestSpecification)
+        Response response = request()
                 .body(user)
                 .put(USER_ENDPOINT + "/" + username)
                 .andReturn();
+        if (response.statusCode() == 200) {
+            ledger.created(ResourceType.USER, user.getUsername());
+        }
+        return response;
+    }
+
+    public CompletableFuture<Response> updateUserAsync(User user, String username){
+        return VirtualThreads.supply(() -> updateUser(user, username));
     }
 
     @Step("get user and wait until he appears")
     public Response getUserByName(String username) {
-        Response response = await()
-                .atMost(15, SECONDS)
-                .pollInterval(500, MILLISECONDS)
-                .until(() -> {
-                    Response resp = given(requestSpecification)
-                            .get(USER_ENDPOINT + "/" + username)
-                            .andReturn();
-                    return resp.statusCode() == 200 ? resp : null;
-                }, Objects::nonNull);
-
-        if (response == null) {
-            throw new RuntimeException("User '" + username + "' did not become available within timeout");
+        try {
+            return ReadinessWait.forOperation("user visible")
+                    .until(() -> requestUser(username), resp -> resp.statusCode() == 200);
+        } catch (ConditionTimeoutException e) {
+            throw new RuntimeException("User '" + username + "' did not become available within timeout", e);
         }
+    }
 
-        return response;
+    public CompletableFuture<Response> getUserByNameAsync(String username) {
+        return VirtualThreads.supply(() -> getUserByName(username));
+    }
+
+    /**
+     * One wait for the whole batch: every poll re-reads only the users that were still missing, {@code maxInFlight}
+     * at a time, and the wait ends when none are left.
+     */
+    @Step("wait until all users appear")
+    public WaitStats waitUntilUsersAreVisible(Collection<String> usernames, int maxInFlight) {
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        pending.addAll(usernames);
+        try {
+            ReadinessWait.forOperation("users visible")
+                    .until(() -> {
+                        BulkCalls.forEach(List.copyOf(pending), maxInFlight, "bulk-probe", username -> {
+                            if (given(bareSpecification).get(USER_ENDPOINT + "/" + username).statusCode() == 200) {
+                                pending.remove(username);
+                            }
+                        });
+                        return pending.size();
+                    }, missing -> missing == 0);
+        } catch (ConditionTimeoutException e) {
+            throw new RuntimeException(pending.size() + " of " + usernames.size()
+                    + " users did not become available within timeout, for example "
+                    + pending.stream().limit(5).toList(), e);
+        }
+        return ReadinessWait.lastStats();
     }
 
     @Step("delete user")
     public Response clearUser(String username){
-        return given(this.requestSpecification)
+        Response response = request()
                 .when()
                 .delete(USER_ENDPOINT + "/" + username)
                 .andReturn();
+        recordDeleted(username, response.statusCode());
+        return response;
+    }
+
+    @Step("delete users created through this controller")
+    public BulkDeleteSummary<String> deleteCreatedUsers(){
+        return deleteUsers(getCreatedUsernames());
+    }
+
+    @Step("delete users in bulk")
+    public BulkDeleteSummary<String> deleteUsers(Collection<String> usernames){
+        return BulkDelete.run(usernames, BulkDelete.DEFAULT_MAX_IN_FLIGHT,
+                username -> given(bareSpecification).delete(USER_ENDPOINT + "/" + username).statusCode(),
+                UserController::isGone,
+                username -> ledger.deleted(ResourceType.USER, username));
     }
 
     @Step("delete user and wait until he disappears")
     public Response deleteUser(String username) {
-        Response deleteResponse = given(requestSpecification)
+        Response deleteResponse = request()
                 .delete(USER_ENDPOINT + "/" + username)
                 .andReturn();
+        recordDeleted(username, deleteResponse.statusCode());
 
-        await()
-                .atMost(15, SECONDS)
-                .pollInterval(500, MILLISECONDS)
-                .until(() -> {
-                    Response response = given(requestSpecification)
-                            .get(USER_ENDPOINT + "/" + username)
-                            .andReturn();
-                    return response.statusCode() == 404;
-                });
+        waitUntilUserIsDeleted(username);
         return deleteResponse;
     }
 
+    public CompletableFuture<Response> deleteUserAsync(String username) {
+        return VirtualThreads.supply(() -> deleteUser(username));
+    }
+
     @Step("wait until user will be deleted")
     public Response waitUntilUserIsDeleted(String username) {
-        await()
-                .atMost(15, SECONDS)
-                .pollInterval(500, MILLISECONDS)
-                .until(() -> {
-                    Response resp = given(requestSpecification)
-                            .get(USER_ENDPOINT + "/" + username)
-                            .andReturn();
-                    return resp.statusCode() == 404;
-                });
-
-        return given(requestSpecification)
+        return ReadinessWait.forOperation("user deleted")
+                .until(() -> requestUser(username), resp -> resp.statusCode() == 404);
+    }
+
+    public WaitStats getLastWaitStats() {
+        return ReadinessWait.lastStats();
+    }
+
+    // for waiting calls this is the last probe
+    public RequestTimings getLastTimings() {
+        return TimingFilter.lastTimings();
+    }
+
+    @Step("Check that the last response arrived within {limit}")
+    public void lastCallRespondedWithin(Duration limit) {
+        RequestTimings timings = getLastTimings();
+        Assertions.assertThat(timings).as("No timings recorded on this thread").isNotNull();
+        Assertions.assertThat(timings.getTotal()).as("Response time (%s)", timings).isLessThanOrEqualTo(limit);
+    }
+
+    // petstore answers 404 for a user that is already gone, which is just as good for cleanup
+    private static boolean isGone(int status) {
+        return status == 200 || status == 404;
+    }
+
+    private void recordDeleted(String username, int status) {
+        if (isGone(status)) {
+            ledger.deleted(ResourceType.USER, username);
+        }
+    }
+
+    private RequestSpecification request() {
+        RequestSpecification request = given(requestSpecification);
+        request.response().defaultParser(Parser.JSON);
+        return request;
+    }
+
+    private Response requestUser(String username) {
+        return request()
                 .get(USER_ENDPOINT + "/" + username)
                 .andReturn();
     }
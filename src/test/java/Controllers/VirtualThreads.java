@@ -0,0 +1,36 @@
+package Controllers;
+
+import Timing.ConnectionPool;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Runs the blocking controller calls one virtual thread per request, so waiting on the network costs no platform
+ * thread and any number of independent requests can be started at once. Only as many run as the shared pool has
+ * connections per route; the rest wait for a permit here instead of for a connection lease inside RestAssured, where
+ * a parked call pins its carrier thread and enough of them stall the calls that hold the connections.
+ */
+final class VirtualThreads {
+
+    private static final ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("controller-", 0).factory());
+    private static final Semaphore IN_FLIGHT = new Semaphore(ConnectionPool.DEFAULT_MAX_PER_ROUTE);
+
+    private VirtualThreads() {
+    }
+
+    static <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            IN_FLIGHT.acquireUninterruptibly();
+            try {
+                return call.get();
+            } finally {
+                IN_FLIGHT.release();
+            }
+        }, EXECUTOR);
+    }
+}
@@ -0,0 +1,31 @@
+package Json;
+
+import io.restassured.mapper.ObjectMapper;
+import io.restassured.mapper.ObjectMapperDeserializationContext;
+import io.restassured.mapper.ObjectMapperSerializationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+class CachedJacksonMapper implements ObjectMapper {
+
+    @Override
+    public Object serialize(ObjectMapperSerializationContext context) {
+        Object body = context.getObjectToSerialize();
+        try {
+            // RestAssured encodes the String with the request charset itself; a byte[] would be sent as its toString
+            return JsonMapping.writerFor(body.getClass()).writeValueAsString(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(ObjectMapperDeserializationContext context) {
+        try {
+            return JsonMapping.readerFor(context.getType()).readValue(context.getDataToDeserialize().asByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not deserialize response body to " + context.getType().getTypeName(), e);
+        }
+    }
+}
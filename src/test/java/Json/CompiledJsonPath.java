@@ -0,0 +1,282 @@
+package Json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evaluates the GPath subset used by assertions directly on a Jackson tree: dotted fields ({@code a.b}),
+ * array indexes ({@code a[0]}, {@code a[-1]}) and {@code find}/{@code findAll}
+ * filters of the form {@code it.field == literal} (or {@code !=}). Field access on an array collects that
+ * field from every element, as GPath does. Each distinct expression is compiled once and cached;
+ * {@link #compile(String)} returns empty for anything outside the subset so callers can fall back to GPath.
+ */
+public final class CompiledJsonPath {
+
+    private static final Map<String, Optional<CompiledJsonPath>> CACHE = new ConcurrentHashMap<>();
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final String expression;
+    private final List<Step> steps;
+
+    private CompiledJsonPath(String expression, List<Step> steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+
+    public static Optional<CompiledJsonPath> compile(String expression) {
+        return CACHE.computeIfAbsent(expression, CompiledJsonPath::parse);
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public JsonNode evaluate(JsonNode root) {
+        JsonNode node = root;
+        for (Step step : steps) {
+            if (node.isMissingNode()) {
+                break;
+            }
+            node = step.apply(node);
+        }
+        return node;
+    }
+
+    private static Optional<CompiledJsonPath> parse(String expression) {
+        try {
+            return Optional.of(new CompiledJsonPath(expression, new Parser(expression).parse()));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        JsonNode apply(JsonNode node);
+    }
+
+    private static Step field(String name) {
+        return node -> {
+            if (node.isArray()) {
+                ArrayNode values = NODES.arrayNode();
+                node.forEach(element -> {
+                    JsonNode value = element.path(name);
+                    if (!value.isMissingNode()) {
+                        values.add(value);
+                    }
+                });
+                return values;
+            }
+            return node.path(name);
+        };
+    }
+
+    private static Step index(int index) {
+        return node -> {
+            if (!node.isArray()) {
+                return MissingNode.getInstance();
+            }
+            int position = index < 0 ? node.size() + index : index;
+            return node.path(position);
+        };
+    }
+
+    private static Step filter(List<String> fieldPath, boolean negated, JsonNode literal, boolean all) {
+        return node -> {
+            if (!node.isArray()) {
+                return MissingNode.getInstance();
+            }
+            ArrayNode matches = NODES.arrayNode();
+            for (JsonNode element : node) {
+                JsonNode actual = element;
+                for (String field : fieldPath) {
+                    actual = actual.path(field);
+                }
+                if (matches(actual, literal) != negated) {
+                    if (!all) {
+                        return element;
+                    }
+                    matches.add(element);
+                }
+            }
+            return all ? matches : MissingNode.getInstance();
+        };
+    }
+
+    private static boolean matches(JsonNode actual, JsonNode literal) {
+        if (literal.isNull()) {
+            return actual.isMissingNode() || actual.isNull();
+        }
+        if (literal.isNumber()) {
+            return actual.isNumber() && actual.decimalValue().compareTo(literal.decimalValue()) == 0;
+        }
+        return actual.equals(literal);
+    }
+
+    private static class Parser {
+
+        private final String text;
+        private int position;
+
+        Parser(String text) {
+            this.text = text.trim();
+        }
+
+        List<Step> parse() {
+            List<Step> steps = new ArrayList<>();
+            boolean first = true;
+            while (!atEnd()) {
+                if (peek('[')) {
+                    steps.add(index(indexLiteral()));
+                } else {
+                    if (!first) {
+                        expect('.');
+                    }
+                    String name = identifier();
+                    skipSpaces();
+                    if ((name.equals("find") || name.equals("findAll")) && peek('{')) {
+                        steps.add(filterClause(name.equals("findAll")));
+                    } else {
+                        steps.add(field(name));
+                    }
+                }
+                first = false;
+            }
+            if (steps.isEmpty()) {
+                throw unsupported();
+            }
+            return steps;
+        }
+
+        private Step filterClause(boolean all) {
+            expect('{');
+            skipSpaces();
+            if (!identifier().equals("it")) {
+                throw unsupported();
+            }
+            List<String> fieldPath = new ArrayList<>();
+            while (consume('.')) {
+                fieldPath.add(identifier());
+            }
+            skipSpaces();
+            boolean negated;
+            if (text.startsWith("==", position)) {
+                negated = false;
+            } else if (text.startsWith("!=", position)) {
+                negated = true;
+            } else {
+                throw unsupported();
+            }
+            position += 2;
+            skipSpaces();
+            JsonNode literal = literal();
+            skipSpaces();
+            expect('}');
+            skipSpaces();
+            return filter(fieldPath, negated, literal, all);
+        }
+
+        private int indexLiteral() {
+            expect('[');
+            int start = position;
+            consume('-');
+            while (!atEnd() && Character.isDigit(text.charAt(position))) {
+                position++;
+            }
+            String digits = text.substring(start, position);
+            expect(']');
+            try {
+                return Integer.parseInt(digits);
+            } catch (NumberFormatException e) {
+                throw unsupported();
+            }
+        }
+
+        private JsonNode literal() {
+            if (peek('\'') || peek('"')) {
+                char quote = text.charAt(position++);
+                int end = text.indexOf(quote, position);
+                if (end < 0) {
+                    throw unsupported();
+                }
+                String value = text.substring(position, end);
+                position = end + 1;
+                return NODES.textNode(value);
+            }
+            int start = position;
+            while (!atEnd() && "+-.0123456789eE".indexOf(text.charAt(position)) >= 0) {
+                position++;
+            }
+            if (position > start) {
+                try {
+                    return NODES.numberNode(new BigDecimal(text.substring(start, position)));
+                } catch (NumberFormatException e) {
+                    throw unsupported();
+                }
+            }
+            String word = identifier();
+            switch (word) {
+                case "true":
+                    return NODES.booleanNode(true);
+                case "false":
+                    return NODES.booleanNode(false);
+                case "null":
+                    return NODES.nullNode();
+                default:
+                    throw unsupported();
+            }
+        }
+
+        private String identifier() {
+            int start = position;
+            while (!atEnd() && (Character.isLetterOrDigit(text.charAt(position)) || text.charAt(position) == '_')) {
+                position++;
+            }
+            if (position == start || Character.isDigit(text.charAt(start))) {
+                throw unsupported();
+            }
+            return text.substring(start, position);
+        }
+
+        private void skipSpaces() {
+            while (!atEnd() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean peek(char expected) {
+            return !atEnd() && text.charAt(position) == expected;
+        }
+
+        private boolean consume(char expected) {
+            if (peek(expected)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!consume(expected)) {
+                throw unsupported();
+            }
+        }
+
+        private boolean atEnd() {
+            return position >= text.length();
+        }
+
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("Unsupported path '" + text + "' at position " + position);
+        }
+    }
+}
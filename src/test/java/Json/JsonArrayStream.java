@@ -0,0 +1,39 @@
+package Json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Walks a top-level JSON array token by token and binds one element at a time, so memory stays flat
+ * however long the array is. Only the element currently being handed to the consumer is reachable.
+ */
+public final class JsonArrayStream {
+
+    private JsonArrayStream() {
+    }
+
+    public static <T> long forEach(InputStream json, ObjectReader elementReader, Consumer<? super T> consumer)
+            throws IOException {
+        try (JsonParser parser = elementReader.getFactory().createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Expected a JSON array but the body starts with " + token);
+            }
+            long count = 0;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalStateException("JSON array ended after " + count + " elements without ']'");
+                }
+                T element = elementReader.readValue(parser);
+                consumer.accept(element);
+                count++;
+            }
+            return count;
+        }
+    }
+}
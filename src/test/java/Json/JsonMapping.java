@@ -0,0 +1,52 @@
+package Json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.restassured.config.ObjectMapperConfig;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The one Jackson setup for request and response payloads. Blackbird replaces reflective getters, setters and
+ * constructors of the models with generated lambdas, and readers/writers are built once per type instead of being
+ * resolved on every call. Mapping features are Jackson's defaults, the same ones RestAssured used before.
+ */
+public final class JsonMapping {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new BlackbirdModule());
+    private static final Map<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final ObjectMapperConfig REST_ASSURED_CONFIG =
+            ObjectMapperConfig.objectMapperConfig().defaultObjectMapper(new CachedJacksonMapper());
+
+    private JsonMapping() {
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static ObjectReader readerFor(Type type) {
+        return READERS.computeIfAbsent(type, key -> {
+            JavaType javaType = MAPPER.getTypeFactory().constructType(key);
+            return MAPPER.readerFor(javaType);
+        });
+    }
+
+    public static ObjectWriter writerFor(Class<?> type) {
+        return WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+    }
+
+    /**
+     * Object mapping for RestAssured specifications, so {@code body(model)} and {@code as(Model.class)} go through
+     * the cached readers and writers.
+     */
+    public static ObjectMapperConfig restAssuredConfig() {
+        return REST_ASSURED_CONFIG;
+    }
+}
@@ -0,0 +1,112 @@
+package Load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear latency histogram in the layout HdrHistogram uses: values are kept to three significant digits from
+ * one microsecond up to an hour, in a fixed array, so recording is a lock-free increment and percentiles do not
+ * depend on how many samples there are. Values above the trackable range are clamped to it.
+ */
+public class LatencyHistogram {
+
+    private static final long LOWEST_DISCERNIBLE_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final int unitMagnitude;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final int leadingZeroCountBase;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, SIGNIFICANT_DIGITS);
+        int subBucketCountMagnitude = (int) Math.ceil(Math.log(largestValueWithSingleUnitResolution) / Math.log(2));
+        int subBucketCount = 1 << subBucketCountMagnitude;
+        unitMagnitude = 63 - Long.numberOfLeadingZeros(LOWEST_DISCERNIBLE_NANOS);
+        subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        subBucketHalfCount = subBucketCount / 2;
+        subBucketMask = ((long) subBucketCount - 1) << unitMagnitude;
+        leadingZeroCountBase = 64 - unitMagnitude - subBucketCountMagnitude;
+
+        long smallestUntrackableValue = (long) subBucketCount << unitMagnitude;
+        int bucketCount = 1;
+        while (smallestUntrackableValue <= HIGHEST_TRACKABLE_NANOS) {
+            smallestUntrackableValue <<= 1;
+            bucketCount++;
+        }
+        counts = new AtomicLongArray((bucketCount + 1) * subBucketHalfCount);
+    }
+
+    public void recordNanos(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), HIGHEST_TRACKABLE_NANOS);
+        counts.incrementAndGet(countsIndex(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getMeanNanos() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) totalNanos.sum() / count;
+    }
+
+    /**
+     * Highest value (at histogram resolution) that {@code percentile} percent of the recorded values are at or below.
+     */
+    public long valueAtPercentileNanos(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+        long seen = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            seen += counts.get(index);
+            if (seen >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(valueFromIndex(index)), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    private int countsIndex(long value) {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> (bucketIndex + unitMagnitude));
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+    }
+
+    private long valueFromIndex(int index) {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return (long) subBucketIndex << (bucketIndex + unitMagnitude);
+    }
+
+    private long highestEquivalentValue(long value) {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> (bucketIndex + unitMagnitude));
+        int adjustedBucket = subBucketIndex >= 2 * subBucketHalfCount ? bucketIndex + 1 : bucketIndex;
+        long rangeSize = 1L << (unitMagnitude + adjustedBucket);
+        long lowestEquivalent = (long) subBucketIndex << (bucketIndex + unitMagnitude);
+        return lowestEquivalent + rangeSize - 1;
+    }
+}
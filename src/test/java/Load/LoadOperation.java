@@ -0,0 +1,6 @@
+package Load;
+
+@FunctionalInterface
+public interface LoadOperation {
+    void run() throws Exception;
+}
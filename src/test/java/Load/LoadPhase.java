@@ -0,0 +1,45 @@
+package Load;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * A stretch of the run during which the arrival rate moves linearly from {@code startRate} to {@code endRate}
+ * requests per second.
+ */
+@Value
+public class LoadPhase {
+    String name;
+    Duration duration;
+    double startRate;
+    double endRate;
+
+    public static LoadPhase rampUp(Duration duration, double targetRate) {
+        return new LoadPhase("ramp-up", duration, 0, targetRate);
+    }
+
+    public static LoadPhase steady(Duration duration, double rate) {
+        return new LoadPhase("steady", duration, rate, rate);
+    }
+
+    public static LoadPhase rampDown(Duration duration, double fromRate) {
+        return new LoadPhase("ramp-down", duration, fromRate, 0);
+    }
+
+    /**
+     * Offset from the start of the phase at which the {@code arrival}-th request (counting from 1) is due, or
+     * {@code null} once the phase has no room for it. Solves rate(t) integrated over [0, t] = arrival.
+     */
+    public Duration offsetOfArrival(long arrival) {
+        double seconds = duration.toNanos() / 1e9;
+        double slope = (endRate - startRate) / seconds;
+        double offset = slope == 0
+                ? arrival / startRate
+                : (-startRate + Math.sqrt(startRate * startRate + 2 * slope * arrival)) / slope;
+        if (Double.isNaN(offset) || Double.isInfinite(offset) || offset > seconds) {
+            return null;
+        }
+        return Duration.ofNanos((long) (offset * 1e9));
+    }
+}
@@ -0,0 +1,75 @@
+package Load;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+@Value
+public class LoadReport {
+    List<Row> rows;
+    Duration maxDispatchLag;
+    // calls still running when the drain timed out are left out of completed and counted as errors
+    boolean drainTimedOut;
+
+    @Value
+    public static class Row {
+        String phase;
+        String operation;
+        long scheduled;
+        long completed;
+        long errors;
+        String firstError;
+        double throughput;
+        Duration p50;
+        Duration p90;
+        Duration p99;
+        Duration p999;
+        Duration max;
+        Duration meanServiceTime;
+    }
+
+    public long getErrors() {
+        return rows.stream().mapToLong(Row::getErrors).sum();
+    }
+
+    public List<Row> rowsFor(String phase) {
+        return rows.stream().filter(row -> row.getPhase().equals(phase)).toList();
+    }
+
+    public String format() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "%-10s %-14s %9s %9s %7s %9s %9s %9s %9s %9s %9s %11s%n", "phase", "operation", "scheduled",
+                "completed", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "service ms"));
+        for (Row row : rows) {
+            text.append(String.format(Locale.ROOT,
+                    "%-10s %-14s %9d %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f%n", row.getPhase(),
+                    row.getOperation(), row.getScheduled(), row.getCompleted(), row.getErrors(), row.getThroughput(),
+                    millis(row.getP50()), millis(row.getP90()), millis(row.getP99()), millis(row.getP999()),
+                    millis(row.getMax()), millis(row.getMeanServiceTime())));
+        }
+        text.append(String.format(Locale.ROOT, "latencies are measured from the scheduled send time; "
+                + "max dispatch lag %.2f ms%n", millis(maxDispatchLag)));
+        if (drainTimedOut) {
+            text.append(String.format("drain timed out; %d call(s) still running were abandoned and counted as errors%n",
+                    rows.stream().mapToLong(row -> row.getScheduled() - row.getCompleted()).sum()));
+        }
+        rows.stream().filter(row -> row.getFirstError() != null).forEach(row -> text.append(String.format(
+                "first error in %s/%s: %s%n", row.getPhase(), row.getOperation(), row.getFirstError())));
+        return text.toString();
+    }
+
+    public void writeTo(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, format(), StandardCharsets.UTF_8);
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+}
@@ -0,0 +1,180 @@
+package Load;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started on a schedule derived from the phases' arrival rates, each on its
+ * own virtual thread, whether or not earlier requests have finished. Latency is measured from the time a request
+ * was scheduled, not from when it actually went out, so a stalled system or a late dispatcher shows up in the
+ * percentiles instead of silently lowering the offered load (coordinated omission).
+ */
+public class OpenModelLoadEngine {
+
+    private final List<LoadPhase> phases;
+    private final List<WeightedOperation> operations = new ArrayList<>();
+    private long seed = 42;
+    private Duration drainTimeout = Duration.ofSeconds(30);
+
+    private OpenModelLoadEngine(List<LoadPhase> phases) {
+        this.phases = List.copyOf(phases);
+    }
+
+    public static OpenModelLoadEngine withPhases(LoadPhase... phases) {
+        return new OpenModelLoadEngine(Arrays.asList(phases));
+    }
+
+    public OpenModelLoadEngine operation(String name, int weight, LoadOperation operation) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Weight of '" + name + "' must be positive, was " + weight);
+        }
+        operations.add(new WeightedOperation(name, weight, operation));
+        return this;
+    }
+
+    public OpenModelLoadEngine seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public OpenModelLoadEngine drainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+        return this;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        if (operations.isEmpty()) {
+            throw new IllegalStateException("No operations to run");
+        }
+        int totalWeight = operations.stream().mapToInt(WeightedOperation::getWeight).sum();
+        Random random = new Random(seed);
+        Map<String, Map<String, Recorder>> recorders = new LinkedHashMap<>();
+        LongAccumulator maxLagNanos = new LongAccumulator(Math::max, 0);
+        AtomicBoolean drainTimedOut = new AtomicBoolean();
+
+        ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+        long phaseStart = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        try {
+            for (LoadPhase phase : phases) {
+                Map<String, Recorder> phaseRecorders = new LinkedHashMap<>();
+                operations.forEach(operation -> phaseRecorders.put(operation.getName(), new Recorder(drainTimedOut)));
+                recorders.put(phase.getName(), phaseRecorders);
+
+                for (long arrival = 1; ; arrival++) {
+                    Duration offset = phase.offsetOfArrival(arrival);
+                    if (offset == null) {
+                        break;
+                    }
+                    long due = phaseStart + offset.toNanos();
+                    parkUntil(due);
+                    maxLagNanos.accumulate(System.nanoTime() - due);
+
+                    WeightedOperation operation = pick(random, totalWeight);
+                    Recorder recorder = phaseRecorders.get(operation.getName());
+                    recorder.scheduled.increment();
+                    requests.execute(() -> recorder.call(operation.getOperation(), due));
+                }
+                phaseStart += phase.getDuration().toNanos();
+                parkUntil(phaseStart);
+            }
+        } finally {
+            requests.shutdown();
+            if (!requests.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                drainTimedOut.set(true);
+                requests.shutdownNow();
+            }
+        }
+
+        List<LoadReport.Row> rows = new ArrayList<>();
+        for (LoadPhase phase : phases) {
+            double seconds = phase.getDuration().toNanos() / 1e9;
+            recorders.get(phase.getName())
+                    .forEach((name, recorder) -> rows.add(recorder.toRow(phase.getName(), name, seconds)));
+        }
+        return new LoadReport(rows, Duration.ofNanos(maxLagNanos.get()), drainTimedOut.get());
+    }
+
+    private WeightedOperation pick(Random random, int totalWeight) {
+        int ticket = random.nextInt(totalWeight);
+        for (WeightedOperation operation : operations) {
+            ticket -= operation.getWeight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights changed while running");
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    @Value
+    private static class WeightedOperation {
+        String name;
+        int weight;
+        LoadOperation operation;
+    }
+
+    private static class Recorder {
+        private final LatencyHistogram responseTime = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final LongAdder scheduled = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final AtomicReference<String> firstError = new AtomicReference<>();
+        private final AtomicBoolean drainTimedOut;
+
+        Recorder(AtomicBoolean drainTimedOut) {
+            this.drainTimedOut = drainTimedOut;
+        }
+
+        void call(LoadOperation operation, long due) {
+            long start = System.nanoTime();
+            Throwable failure = null;
+            try {
+                operation.run();
+            } catch (Throwable e) {
+                failure = e;
+            }
+            long end = System.nanoTime();
+            // a call the drain gave up on was interrupted, not answered; toRow counts it as abandoned instead
+            if (drainTimedOut.get()) {
+                return;
+            }
+            if (failure != null) {
+                errors.increment();
+                firstError.compareAndSet(null, failure.toString());
+            }
+            responseTime.recordNanos(end - due);
+            serviceTime.recordNanos(end - start);
+        }
+
+        LoadReport.Row toRow(String phase, String operation, double seconds) {
+            long completed = responseTime.getCount();
+            long abandoned = scheduled.sum() - completed;
+            String error = firstError.get() == null && abandoned > 0
+                    ? abandoned + " call(s) abandoned when the drain timed out" : firstError.get();
+            return new LoadReport.Row(phase, operation, scheduled.sum(), completed, errors.sum() + abandoned, error,
+                    seconds == 0 ? 0 : completed / seconds,
+                    percentile(50), percentile(90), percentile(99), percentile(99.9),
+                    Duration.ofNanos(responseTime.getMaxNanos()), Duration.ofNanos((long) serviceTime.getMeanNanos()));
+        }
+
+        private Duration percentile(double percentile) {
+            return Duration.ofNanos(responseTime.valueAtPercentileNanos(percentile));
+        }
+    }
+}
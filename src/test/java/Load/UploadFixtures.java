@@ -0,0 +1,69 @@
+package Load;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class UploadFixtures {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private UploadFixtures() {
+    }
+
+    /**
+     * A file of exactly {@code size} pseudo-random bytes, written through one reused buffer. An existing file of the
+     * right size is reused, so large fixtures are only generated once per directory.
+     */
+    public static Path generate(Path directory, long size) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("upload-" + describe(size).replace(' ', '-') + ".bin");
+        if (Files.exists(file) && Files.size(file) == size) {
+            return file;
+        }
+        ByteBuffer block = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        byte[] random = new byte[BUFFER_SIZE];
+        new Random(size).nextBytes(random);
+        block.put(random).flip();
+        try (FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            for (long written = 0; written < size; ) {
+                block.rewind().limit((int) Math.min(BUFFER_SIZE, size - written));
+                written += channel.write(block);
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Parses sizes such as {@code 512}, {@code 1KB}, {@code 16MB} or {@code 1GB} (binary multiples).
+     */
+    public static long parseSize(String text) {
+        String size = text.trim().toUpperCase(Locale.ROOT);
+        long multiplier = 1;
+        for (String unit : new String[]{"KB", "MB", "GB"}) {
+            multiplier *= 1024;
+            if (size.endsWith(unit)) {
+                return Long.parseLong(size.substring(0, size.length() - 2).trim()) * multiplier;
+            }
+        }
+        return Long.parseLong(size.endsWith("B") ? size.substring(0, size.length() - 1) : size);
+    }
+
+    public static String describe(long size) {
+        String[] units = {"B", "KB", "MB", "GB"};
+        int unit = 0;
+        while (unit < units.length - 1 && size >= 1024 && size % 1024 == 0) {
+            size /= 1024;
+            unit++;
+        }
+        return size + " " + units[unit];
+    }
+}
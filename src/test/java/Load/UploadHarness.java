@@ -0,0 +1,110 @@
+package Load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-model upload runs, one size class after the other: every class gets its own generated fixture and
+ * {@code uploadsPerSize} uploads spread round-robin over a range of pet ids, at most {@code maxInFlight} at a time.
+ */
+public class UploadHarness {
+
+    private final List<Long> sizes;
+    private final Path fixtureDirectory;
+    private int uploadsPerSize = 16;
+    private int maxInFlight = 8;
+    private long firstPetId = 1;
+    private int petIds = 100;
+
+    private UploadHarness(List<Long> sizes, Path fixtureDirectory) {
+        this.sizes = List.copyOf(sizes);
+        this.fixtureDirectory = fixtureDirectory;
+    }
+
+    public static UploadHarness forSizes(List<Long> sizes, Path fixtureDirectory) {
+        return new UploadHarness(sizes, fixtureDirectory);
+    }
+
+    public UploadHarness uploadsPerSize(int uploadsPerSize) {
+        if (uploadsPerSize < 1) {
+            throw new IllegalArgumentException("uploadsPerSize must be at least 1, was " + uploadsPerSize);
+        }
+        this.uploadsPerSize = uploadsPerSize;
+        return this;
+    }
+
+    public UploadHarness maxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1, was " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    public UploadHarness petIds(long firstPetId, int count) {
+        if (firstPetId < 0 || count < 1) {
+            throw new IllegalArgumentException("petIds needs a first id of at least 0 and a count of at least 1, were "
+                    + firstPetId + " and " + count);
+        }
+        this.firstPetId = firstPetId;
+        this.petIds = count;
+        return this;
+    }
+
+    public UploadReport run(UploadOperation operation) throws Exception {
+        List<UploadReport.Row> rows = new ArrayList<>();
+        for (long size : sizes) {
+            rows.add(runSizeClass(size, UploadFixtures.generate(fixtureDirectory, size), operation));
+        }
+        return new UploadReport(rows, maxInFlight);
+    }
+
+    private UploadReport.Row runSizeClass(long size, Path file, UploadOperation operation) throws Exception {
+        // one untimed upload first, so class loading and connection setup do not land in the first size class
+        operation.upload(firstPetId, file);
+        LatencyHistogram latencies = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        AtomicReference<String> firstError = new AtomicReference<>();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<Future<?>> uploads = new ArrayList<>();
+        long start = System.nanoTime();
+        try (ExecutorService threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("upload-", 0).factory())) {
+            for (int i = 0; i < uploadsPerSize; i++) {
+                long petId = firstPetId + i % petIds;
+                inFlight.acquire();
+                uploads.add(threads.submit(() -> {
+                    long callStart = System.nanoTime();
+                    try {
+                        int status = operation.upload(petId, file);
+                        if (status != 200) {
+                            errors.increment();
+                            firstError.compareAndSet(null, "status " + status + " for pet " + petId);
+                        }
+                    } catch (Exception e) {
+                        errors.increment();
+                        firstError.compareAndSet(null, e.toString());
+                    } finally {
+                        latencies.recordNanos(System.nanoTime() - callStart);
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> upload : uploads) {
+                upload.get();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        double bytesPerSecond = (uploadsPerSize - errors.sum()) * (double) size / (elapsed.toNanos() / 1e9);
+        return new UploadReport.Row(size, uploadsPerSize, errors.sum(), firstError.get(), elapsed, bytesPerSecond,
+                Duration.ofNanos(latencies.valueAtPercentileNanos(50)), Duration.ofNanos(latencies.valueAtPercentileNanos(90)),
+                Duration.ofNanos(latencies.valueAtPercentileNanos(99)), Duration.ofNanos(latencies.getMaxNanos()));
+    }
+}
@@ -0,0 +1,11 @@
+package Load;
+
+import java.nio.file.Path;
+
+@FunctionalInterface
+public interface UploadOperation {
+    /**
+     * Uploads {@code file} for {@code petId} and returns the HTTP status.
+     */
+    int upload(long petId, Path file) throws Exception;
+}
@@ -0,0 +1,59 @@
+package Load;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+@Value
+public class UploadReport {
+    List<Row> rows;
+    int maxInFlight;
+
+    @Value
+    public static class Row {
+        long fileBytes;
+        long uploads;
+        long errors;
+        String firstError;
+        Duration elapsed;
+        double bytesPerSecond;
+        Duration p50;
+        Duration p90;
+        Duration p99;
+        Duration max;
+    }
+
+    public long getErrors() {
+        return rows.stream().mapToLong(Row::getErrors).sum();
+    }
+
+    public String format() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT, "%-8s %8s %7s %10s %10s %10s %10s %10s %10s%n",
+                "size", "uploads", "errors", "elapsed s", "MB/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Row row : rows) {
+            text.append(String.format(Locale.ROOT, "%-8s %8d %7d %10.2f %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    UploadFixtures.describe(row.getFileBytes()), row.getUploads(), row.getErrors(),
+                    row.getElapsed().toNanos() / 1e9, row.getBytesPerSecond() / (1024 * 1024), millis(row.getP50()),
+                    millis(row.getP90()), millis(row.getP99()), millis(row.getMax())));
+        }
+        text.append(String.format("%d uploads in flight; MB/s counts file bytes of successful uploads%n", maxInFlight));
+        rows.stream().filter(row -> row.getFirstError() != null).forEach(row -> text.append(String.format(
+                "first error at %s: %s%n", UploadFixtures.describe(row.getFileBytes()), row.getFirstError())));
+        return text.toString();
+    }
+
+    public void writeTo(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, format(), StandardCharsets.UTF_8);
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+}
@@ -1,7 +1,10 @@
 package Models;
 
+import Comparators.GenerateFieldComparator;
+
 import java.util.Objects;
 
+@GenerateFieldComparator
 public class BasicPetStoreResponse {
 
     private int code;
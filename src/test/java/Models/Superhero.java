@@ -1,10 +1,13 @@
 package Models;
 
+import Comparators.GenerateFieldComparator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+@GenerateFieldComparator
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,6 +17,8 @@ public class Superhero {
     private String city;
     private String fullName;
     private GenderForSuperhero gender;
+    // 0 means "not assigned yet"; the service picks the id, so unsaved heroes are sent without one
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
     private long id;
     private String mainSkill;
     private String phone;
@@ -1,5 +1,6 @@
 package Models;
 
+import Comparators.GenerateFieldComparator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
+@GenerateFieldComparator
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,37 @@
+package Reporting;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.junit.platform.launcher.LauncherInterceptor;
+
+/**
+ * Swaps Allure's lifecycle for one backed by {@link AsyncResultsWriter}. It has to be a launcher interceptor:
+ * these are created before the launcher, and the Allure listener keeps whatever lifecycle exists when it is built.
+ * Turned off with {@code -Dallure.writer.async=false}.
+ */
+public class AsyncAllureResults implements LauncherInterceptor {
+
+    private final AsyncResultsWriter writer;
+
+    public AsyncAllureResults() {
+        if (!Boolean.parseBoolean(System.getProperty("allure.writer.async", "true"))) {
+            writer = null;
+            return;
+        }
+        writer = AsyncResultsWriter.forDefaultDirectory();
+        Allure.setLifecycle(new AllureLifecycle(writer));
+        Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "allure-results-flush"));
+    }
+
+    @Override
+    public <T> T intercept(Invocation<T> invocation) {
+        return invocation.proceed();
+    }
+
+    @Override
+    public void close() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
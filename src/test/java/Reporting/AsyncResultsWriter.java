@@ -0,0 +1,215 @@
+package Reporting;
+
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import io.qameta.allure.util.PropertiesUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Allure results writer that only queues work on the calling thread; one background thread does all file I/O.
+ * The queue is bounded, so a disk that cannot keep up eventually slows producers down instead of filling the heap.
+ * Results JSON is still produced by Allure's own {@link FileSystemResultsWriter}; attachments are pumped through a
+ * reused direct buffer into a {@link FileChannel}.
+ */
+public class AsyncResultsWriter implements AllureResultsWriter, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Runnable STOP = () -> { };
+
+    private final Path outputDirectory;
+    private final FileSystemResultsWriter resultsWriter;
+    private final BlockingQueue<Runnable> queue;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Object bufferLock = new Object();
+    private final LongAdder producerStalls = new LongAdder();
+    private final LongAdder failedWrites = new LongAdder();
+    private final Thread worker;
+    // submitters hold the read lock from checking closed until their task is queued, so nothing lands behind STOP
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    public AsyncResultsWriter(Path outputDirectory, int queueCapacity) {
+        this.outputDirectory = outputDirectory;
+        this.resultsWriter = new FileSystemResultsWriter(outputDirectory);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        try {
+            Files.createDirectories(outputDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create allure results directory " + outputDirectory, e);
+        }
+        worker = new Thread(this::drain, "allure-results-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // same directory resolution as Allure's default lifecycle: allure.properties, then system properties
+    public static AsyncResultsWriter forDefaultDirectory() {
+        String directory = PropertiesUtils.loadAllureProperties().getProperty("allure.results.directory", "allure-results");
+        return new AsyncResultsWriter(Paths.get(directory), Integer.getInteger("allure.writer.queueSize", 1024));
+    }
+
+    public Path getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    public long getProducerStalls() {
+        return producerStalls.sum();
+    }
+
+    public long getFailedWrites() {
+        return failedWrites.sum();
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        submit(() -> resultsWriter.write(testResult));
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        submit(() -> resultsWriter.write(testResultContainer));
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        // an in-memory stream is handed over untouched; anything else is drained now, while the caller still owns it
+        InputStream content = attachment instanceof ByteArrayInputStream ? attachment : new ByteArrayInputStream(readAll(attachment));
+        submit(() -> writeAttachment(source, content));
+    }
+
+    /**
+     * Blocks until everything queued before this call is on disk.
+     */
+    public void flush() {
+        if (closed) {
+            return;
+        }
+        CountDownLatch written = new CountDownLatch(1);
+        submit(written::countDown);
+        try {
+            written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closing.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closing.writeLock().unlock();
+        }
+        enqueue(STOP);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Runnable task) {
+        closing.readLock().lock();
+        try {
+            if (!closed) {
+                enqueue(task);
+                return;
+            }
+        } finally {
+            closing.readLock().unlock();
+        }
+        // late writers (shutdown hooks of other listeners) still get their results on disk
+        runSafely(task);
+    }
+
+    private void enqueue(Runnable task) {
+        if (queue.offer(task)) {
+            return;
+        }
+        producerStalls.increment();
+        try {
+            queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            runSafely(task);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Runnable task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (task == STOP) {
+                return;
+            }
+            runSafely(task);
+        }
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            failedWrites.increment();
+            System.err.println("Could not write allure result: " + e);
+        }
+    }
+
+    private void writeAttachment(String source, InputStream content) {
+        try (ReadableByteChannel in = Channels.newChannel(content);
+             FileChannel out = FileChannel.open(outputDirectory.resolve(source), CREATE, TRUNCATE_EXISTING, WRITE)) {
+            // only contended when writes fall back to the calling thread after close()
+            synchronized (bufferLock) {
+                buffer.clear();
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write attachment " + source, e);
+        }
+    }
+
+    private static byte[] readAll(InputStream attachment) {
+        try (InputStream in = attachment) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read attachment content", e);
+        }
+    }
+}
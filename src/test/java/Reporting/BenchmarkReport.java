@@ -0,0 +1,29 @@
+package Reporting;
+
+import io.qameta.allure.Allure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measurements of one in-suite benchmark, attached to its Allure test case as a plain-text table, so results
+ * land next to the run that produced them instead of in the console.
+ */
+public class BenchmarkReport {
+
+    private final String title;
+    private final List<String> lines = new ArrayList<>();
+
+    public BenchmarkReport(String title) {
+        this.title = title;
+    }
+
+    public BenchmarkReport line(String format, Object... args) {
+        lines.add(String.format(format, args));
+        return this;
+    }
+
+    public void attach() {
+        Allure.addAttachment(title, "text/plain", String.join(System.lineSeparator(), lines), ".txt");
+    }
+}
@@ -0,0 +1,7 @@
+package Reporting;
+
+public enum CaptureMode {
+    FULL,
+    FAILURES_ONLY,
+    SAMPLED
+}
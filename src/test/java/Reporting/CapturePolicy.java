@@ -0,0 +1,29 @@
+package Reporting;
+
+import lombok.Value;
+
+import java.util.Locale;
+
+/**
+ * How much of each HTTP exchange ends up in the Allure report. {@code maxAttachmentBytes} of zero means bodies are
+ * not cut; {@code FULL} without a cap keeps the stock AllureRestAssured attachments.
+ */
+@Value
+public class CapturePolicy {
+    CaptureMode mode;
+    int sampleEvery;
+    int maxAttachmentBytes;
+    int failureRingSize;
+
+    public static CapturePolicy fromSystemProperties() {
+        String mode = System.getProperty("allure.capture.mode", "full").trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        return new CapturePolicy(CaptureMode.valueOf(mode),
+                Math.max(1, Integer.getInteger("allure.capture.sampleEvery", 100)),
+                Math.max(0, Integer.getInteger("allure.capture.maxBytes", 0)),
+                Math.max(1, Integer.getInteger("allure.capture.ringSize", 20)));
+    }
+
+    public boolean isStockAllure() {
+        return mode == CaptureMode.FULL && maxAttachmentBytes == 0;
+    }
+}
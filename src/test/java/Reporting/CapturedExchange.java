@@ -0,0 +1,52 @@
+package Reporting;
+
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@Value
+public class CapturedExchange {
+    String title;
+    byte[] request;
+    byte[] response;
+
+    static CapturedExchange of(FilterableRequestSpecification request, Response response, int maxBytes) {
+        StringBuilder requestText = new StringBuilder(request.getMethod()).append(' ').append(request.getURI()).append('\n');
+        for (Header header : request.getHeaders()) {
+            requestText.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+        StringBuilder responseText = new StringBuilder(response.getStatusLine()).append('\n');
+        for (Header header : response.getHeaders()) {
+            responseText.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+        return new CapturedExchange(request.getMethod() + " " + request.getURI() + " -> " + response.getStatusCode(),
+                withBody(requestText, requestBody(request.getBody()), maxBytes),
+                withBody(responseText, response.asByteArray(), maxBytes));
+    }
+
+    private static byte[] requestBody(Object body) {
+        if (body == null) {
+            return new byte[0];
+        }
+        return body instanceof byte[] bytes ? bytes : String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] withBody(StringBuilder head, byte[] body, int maxBytes) {
+        head.append('\n');
+        byte[] headBytes = head.toString().getBytes(StandardCharsets.UTF_8);
+        boolean truncated = maxBytes > 0 && body.length > maxBytes;
+        byte[] kept = truncated ? Arrays.copyOf(body, maxBytes) : body;
+        byte[] marker = truncated
+                ? ("\n... [truncated " + (body.length - maxBytes) + " of " + body.length + " bytes]")
+                        .getBytes(StandardCharsets.UTF_8)
+                : new byte[0];
+        byte[] text = Arrays.copyOf(headBytes, headBytes.length + kept.length + marker.length);
+        System.arraycopy(kept, 0, text, headBytes.length, kept.length);
+        System.arraycopy(marker, 0, text, headBytes.length + kept.length, marker.length);
+        return text;
+    }
+}
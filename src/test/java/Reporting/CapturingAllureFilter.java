@@ -0,0 +1,66 @@
+package Reporting;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for {@link AllureRestAssured} that follows a {@link CapturePolicy}: every exchange, every n-th one, or
+ * only those of failing steps, with bodies optionally cut to a byte cap. Steps come from {@code @Step} and are
+ * unaffected; only the request/response attachments change.
+ */
+public class CapturingAllureFilter implements Filter {
+
+    private static final CapturingAllureFilter CONFIGURED = new CapturingAllureFilter(CapturePolicy.fromSystemProperties());
+
+    private final CapturePolicy policy;
+    private final AllureRestAssured stockFilter = new AllureRestAssured();
+    private final AtomicLong calls = new AtomicLong();
+
+    public CapturingAllureFilter(CapturePolicy policy) {
+        this.policy = policy;
+    }
+
+    // one shared instance, so sampling counts across all controllers
+    public static CapturingAllureFilter configured() {
+        return CONFIGURED;
+    }
+
+    public CapturePolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (policy.isStockAllure()) {
+            return stockFilter.filter(requestSpec, responseSpec, ctx);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        switch (policy.getMode()) {
+            case FULL -> attach(CapturedExchange.of(requestSpec, response, policy.getMaxAttachmentBytes()));
+            case SAMPLED -> {
+                if (calls.getAndIncrement() % policy.getSampleEvery() == 0) {
+                    attach(CapturedExchange.of(requestSpec, response, policy.getMaxAttachmentBytes()));
+                }
+            }
+            case FAILURES_ONLY -> FailureCapture.remember(
+                    CapturedExchange.of(requestSpec, response, policy.getMaxAttachmentBytes()), policy.getFailureRingSize());
+        }
+        return response;
+    }
+
+    private static void attach(CapturedExchange exchange) {
+        Allure.addAttachment("Request " + exchange.getTitle(), "text/plain",
+                new ByteArrayInputStream(exchange.getRequest()), ".txt");
+        Allure.addAttachment("Response " + exchange.getTitle(), "text/plain",
+                new ByteArrayInputStream(exchange.getResponse()), ".txt");
+    }
+}
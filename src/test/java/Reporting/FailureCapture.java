@@ -0,0 +1,69 @@
+package Reporting;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.WithAttachments;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last few exchanges of every running test, kept in memory until a step or the test fails. Keyed by Allure's
+ * test case id, which virtual threads started from the test inherit, so async calls land in the right ring.
+ */
+final class FailureCapture {
+
+    private static final String NO_TEST = "";
+    private static final Map<String, Deque<CapturedExchange>> RINGS = new ConcurrentHashMap<>();
+
+    private FailureCapture() {
+    }
+
+    static void remember(CapturedExchange exchange, int ringSize) {
+        Deque<CapturedExchange> ring = RINGS.computeIfAbsent(currentTest(), key -> new ArrayDeque<>());
+        synchronized (ring) {
+            if (ring.size() == ringSize) {
+                ring.removeFirst();
+            }
+            ring.addLast(exchange);
+        }
+    }
+
+    static void flushInto(String testUuid, WithAttachments target) {
+        Deque<CapturedExchange> ring = RINGS.get(testUuid == null ? NO_TEST : testUuid);
+        if (ring == null) {
+            return;
+        }
+        List<CapturedExchange> exchanges;
+        synchronized (ring) {
+            exchanges = List.copyOf(ring);
+            ring.clear();
+        }
+        for (CapturedExchange exchange : exchanges) {
+            attach(target, "Request " + exchange.getTitle(), exchange.getRequest());
+            attach(target, "Response " + exchange.getTitle(), exchange.getResponse());
+        }
+    }
+
+    static void discard(String testUuid) {
+        RINGS.remove(testUuid);
+    }
+
+    static String currentTest() {
+        return Allure.getLifecycle().getCurrentTestCase().orElse(NO_TEST);
+    }
+
+    // the target is handed in by the listener, so this does not depend on which step is current on this thread
+    private static void attach(WithAttachments target, String name, byte[] content) {
+        String source = UUID.randomUUID() + "-attachment.txt";
+        synchronized (target) {
+            target.getAttachments().add(new Attachment().setName(name).setType("text/plain").setSource(source));
+        }
+        Allure.getLifecycle().writeAttachment(source, new ByteArrayInputStream(content));
+    }
+}
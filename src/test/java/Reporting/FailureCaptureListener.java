@@ -0,0 +1,33 @@
+package Reporting;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+
+/**
+ * Writes the exchanges held back in failures-only mode into the step or test that failed. Registered through
+ * META-INF/services, so Allure picks it up on its own.
+ */
+public class FailureCaptureListener implements StepLifecycleListener, TestLifecycleListener {
+
+    @Override
+    public void beforeStepStop(StepResult result) {
+        if (failed(result.getStatus())) {
+            FailureCapture.flushInto(FailureCapture.currentTest(), result);
+        }
+    }
+
+    @Override
+    public void beforeTestStop(TestResult result) {
+        if (failed(result.getStatus())) {
+            FailureCapture.flushInto(result.getUuid(), result);
+        }
+        FailureCapture.discard(result.getUuid());
+    }
+
+    private static boolean failed(Status status) {
+        return status == Status.FAILED || status == Status.BROKEN;
+    }
+}
@@ -0,0 +1,205 @@
+package Stubs;
+
+import com.sun.net.httpserver.HttpExchange;
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves generated files of any size without keeping them anywhere: the content is a fixed pseudo-random block
+ * repeated end to end. The block length is prime, so a chunk written at the wrong offset never matches by accident.
+ * Each published file carries its own options, since the stub is shared by tests running in parallel.
+ */
+public class FileStub extends StubServer {
+
+    private static final Pattern FILE = Pattern.compile("/files/([^/]+)");
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final byte[] PATTERN = new byte[65_521];
+
+    static {
+        new Random(17).nextBytes(PATTERN);
+    }
+
+    private final Map<String, ServedFile> files = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> bytesServed = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> conditionalRanges = new ConcurrentHashMap<>();
+
+    private FileStub() {
+        super("files");
+    }
+
+    public static FileStub get() {
+        return Holder.INSTANCE;
+    }
+
+    public String publish(String name, long size, String contentType) {
+        return publish(name, ServedFile.builder().size(size).contentType(contentType).build());
+    }
+
+    public String publish(String name, ServedFile file) {
+        files.put(name, file);
+        bytesServed.put(name, new AtomicLong());
+        conditionalRanges.put(name, new AtomicLong());
+        return urlOf(name);
+    }
+
+    public String urlOf(String name) {
+        return getBaseUrl() + "files/" + name;
+    }
+
+    public long getBytesServed(String name) {
+        AtomicLong served = bytesServed.get(name);
+        return served == null ? 0 : served.get();
+    }
+
+    // range requests for the file that carried an If-Range validator
+    public long getConditionalRanges(String name) {
+        AtomicLong ranges = conditionalRanges.get(name);
+        return ranges == null ? 0 : ranges.get();
+    }
+
+    // what a correct download of the first size bytes hashes to, computed the same way the stub streams it
+    public static String sha256Of(long size) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] chunk = new byte[CHUNK_SIZE];
+            for (long position = 0; position < size; ) {
+                int length = fill(chunk, position, size);
+                digest.update(chunk, 0, length);
+                position += length;
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange) throws IOException {
+        Matcher matcher = FILE.matcher(exchange.getRequestURI().getPath());
+        String name = matcher.matches() ? matcher.group(1) : null;
+        ServedFile file = name == null ? null : files.get(name);
+        if (file == null) {
+            sendEmpty(exchange, 404);
+            return;
+        }
+        String method = exchange.getRequestMethod();
+        if (!method.equals("GET") && !method.equals("HEAD")) {
+            sendEmpty(exchange, 405);
+            return;
+        }
+
+        long first = 0;
+        long last = file.getSize() - 1;
+        int status = 200;
+        exchange.getResponseHeaders().set("Content-Type", file.getContentType());
+        if (file.getEtag() != null) {
+            exchange.getResponseHeaders().set("ETag", file.getEtag());
+        }
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+        if (range != null && ifRange != null) {
+            conditionalRanges.get(name).incrementAndGet();
+            // a validator that no longer matches asks for the whole current file instead of the range
+            if (!ifRange.equals(file.getEtag())) {
+                range = null;
+            }
+        }
+        if (file.isAcceptRanges()) {
+            exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+            if (range != null) {
+                Matcher requested = RANGE.matcher(range.trim());
+                if (!requested.matches() || Long.parseLong(requested.group(1)) >= file.getSize()) {
+                    exchange.getResponseHeaders().set("Content-Range", "bytes */" + file.getSize());
+                    sendEmpty(exchange, 416);
+                    return;
+                }
+                first = Long.parseLong(requested.group(1));
+                if (!requested.group(2).isEmpty()) {
+                    last = Math.min(last, Long.parseLong(requested.group(2)));
+                }
+                status = 206;
+                exchange.getResponseHeaders().set("Content-Range", "bytes " + first + "-" + last + "/" + file.getSize());
+            }
+        }
+        long length = last - first + 1;
+        if (method.equals("HEAD")) {
+            exchange.getResponseHeaders().set("Content-Length", String.valueOf(length));
+            sendEmpty(exchange, status);
+            return;
+        }
+        exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+        stream(exchange, file, first, length, bytesServed.get(name));
+    }
+
+    private void stream(HttpExchange exchange, ServedFile file, long first, long length, AtomicLong served)
+            throws IOException {
+        long limit = file.getAbortAfterBytes() > 0 ? Math.min(length, file.getAbortAfterBytes()) : length;
+        long start = System.nanoTime();
+        OutputStream out = exchange.getResponseBody();
+        byte[] chunk = new byte[CHUNK_SIZE];
+        for (long sent = 0; sent < limit; ) {
+            int count = fill(chunk, first + sent, first + limit);
+            out.write(chunk, 0, count);
+            sent += count;
+            served.addAndGet(count);
+            if (file.getBytesPerSecond() > 0) {
+                long due = start + sent * 1_000_000_000L / file.getBytesPerSecond();
+                LockSupport.parkNanos(due - System.nanoTime());
+            }
+        }
+        if (limit < length) {
+            out.flush();
+            // leave the body unfinished: closing the exchange then drops the connection mid-body, the way a proxy
+            // timeout or a network blip would (closing the body stream first would keep the connection alive)
+            throw new IOException("Aborted " + exchange.getRequestURI() + " after " + limit + " bytes");
+        }
+        out.close();
+    }
+
+    private static int fill(byte[] chunk, long position, long end) {
+        int length = (int) Math.min(chunk.length, end - position);
+        for (int i = 0; i < length; ) {
+            int offset = (int) ((position + i) % PATTERN.length);
+            int run = Math.min(length - i, PATTERN.length - offset);
+            System.arraycopy(PATTERN, offset, chunk, i, run);
+            i += run;
+        }
+        return length;
+    }
+
+    /**
+     * A generated file and how it is served: {@code bytesPerSecond} throttles every response (so every connection)
+     * separately, {@code abortAfterBytes} cuts every response short. An {@code etag}, when set, is sent with every
+     * response and checked against If-Range.
+     */
+    @Value
+    @Builder(toBuilder = true)
+    public static class ServedFile {
+        long size;
+        @Builder.Default
+        String contentType = "application/octet-stream";
+        @Builder.Default
+        boolean acceptRanges = true;
+        long bytesPerSecond;
+        long abortAfterBytes;
+        String etag;
+    }
+
+    private static class Holder {
+        private static final FileStub INSTANCE = new FileStub();
+    }
+}
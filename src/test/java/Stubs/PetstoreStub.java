@@ -0,0 +1,288 @@
+package Stubs;
+
+import Models.BasicPetStoreResponse;
+import Models.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PetstoreStub extends StubServer {
+
+    private static final String USERS = "/v2/user";
+    private static final Pattern USER = Pattern.compile("/v2/user/([^/]+)/?");
+    private static final Pattern CREATE_USERS = Pattern.compile("/v2/user/createWith(Array|List)/?");
+    private static final Pattern UPLOAD_IMAGE = Pattern.compile("/v2/pet/(\\d+)/uploadImage/?");
+    private static final Pattern BOUNDARY = Pattern.compile("boundary=\"?([^\";]+)\"?");
+    private static final Pattern FILE_NAME = Pattern.compile("filename=\"([^\"]*)\"");
+    private static final int MAX_PART_HEADER_BYTES = 16 * 1024;
+
+    private final Map<String, VersionedUser> users = new ConcurrentHashMap<>();
+    private volatile VisibilityDelay visibilityDelay = VisibilityDelay.fromSystemProperties("petstore");
+
+    private PetstoreStub() {
+        super("petstore");
+    }
+
+    public static PetstoreStub get() {
+        return Holder.INSTANCE;
+    }
+
+    public static String resolveBaseUrl(String configuredUrl) {
+        return EMBEDDED.equalsIgnoreCase(configuredUrl) ? get().getBaseUrl() : withTrailingSlash(configuredUrl);
+    }
+
+    public VisibilityDelay getVisibilityDelay() {
+        return visibilityDelay;
+    }
+
+    public void setVisibilityDelay(VisibilityDelay visibilityDelay) {
+        this.visibilityDelay = visibilityDelay;
+    }
+
+    public void reset() {
+        users.clear();
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+
+        if (path.equals(USERS) || path.equals(USERS + "/")) {
+            if (method.equals("POST")) {
+                createUser(exchange);
+            } else {
+                sendEmpty(exchange, 405);
+            }
+            return;
+        }
+
+        if (CREATE_USERS.matcher(path).matches()) {
+            if (method.equals("POST")) {
+                createUsers(exchange);
+            } else {
+                sendEmpty(exchange, 405);
+            }
+            return;
+        }
+
+        Matcher upload = UPLOAD_IMAGE.matcher(path);
+        if (upload.matches()) {
+            if (method.equals("POST")) {
+                uploadImage(exchange);
+            } else {
+                sendEmpty(exchange, 405);
+            }
+            return;
+        }
+
+        Matcher user = USER.matcher(path);
+        if (!user.matches()) {
+            sendEmpty(exchange, 404);
+            return;
+        }
+
+        String username = user.group(1);
+        switch (method) {
+            case "GET" -> getUser(exchange, username);
+            case "PUT" -> updateUser(exchange, username);
+            case "DELETE" -> deleteUser(exchange, username);
+            default -> sendEmpty(exchange, 405);
+        }
+    }
+
+    private void createUser(HttpExchange exchange) throws IOException {
+        User user = readUser(exchange);
+        if (user == null) {
+            return;
+        }
+        if (user.getId() == 0) {
+            user.setId(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+        }
+        write(user.getUsername(), user);
+        sendJson(exchange, 200, response(200, "unknown", String.valueOf(user.getId())));
+    }
+
+    // the real service answers a whole batch with one "ok", without the ids it assigned
+    private void createUsers(HttpExchange exchange) throws IOException {
+        User[] batch;
+        try {
+            batch = MAPPER.readValue(readBody(exchange), User[].class);
+        } catch (JsonProcessingException e) {
+            sendJson(exchange, 400, response(400, "unknown", "bad input"));
+            return;
+        }
+        for (User user : batch) {
+            if (user.getId() == 0) {
+                user.setId(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+            }
+            write(user.getUsername(), user);
+        }
+        sendJson(exchange, 200, response(200, "unknown", "ok"));
+    }
+
+    private void getUser(HttpExchange exchange, String username) throws IOException {
+        VersionedUser versions = users.get(username);
+        User user = versions == null ? null : versions.visible(System.currentTimeMillis());
+        if (user == null) {
+            sendJson(exchange, 404, response(1, "error", "User not found"));
+        } else {
+            sendJson(exchange, 200, user);
+        }
+    }
+
+    private void updateUser(HttpExchange exchange, String username) throws IOException {
+        User user = readUser(exchange);
+        if (user == null) {
+            return;
+        }
+        if (user.getUsername() != null && !user.getUsername().equals(username)) {
+            write(username, null);
+        }
+        write(user.getUsername() == null ? username : user.getUsername(), user);
+        sendJson(exchange, 200, response(200, "unknown", String.valueOf(user.getId())));
+    }
+
+    private void deleteUser(HttpExchange exchange, String username) throws IOException {
+        VersionedUser versions = users.get(username);
+        if (versions == null || versions.latest() == null) {
+            sendEmpty(exchange, 404);
+            return;
+        }
+        write(username, null);
+        sendJson(exchange, 200, response(200, "unknown", username));
+    }
+
+    /**
+     * Reads the multipart body in fixed-size chunks and only counts the file bytes, so uploads of any size cost the
+     * stub the same memory. Like the clients in this suite, it expects the file to be the only part.
+     */
+    private void uploadImage(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        Matcher boundary = contentType == null ? null : BOUNDARY.matcher(contentType);
+        if (boundary == null || !contentType.startsWith("multipart/form-data") || !boundary.find()) {
+            sendJson(exchange, 415, response(415, "unknown", "expected multipart/form-data"));
+            return;
+        }
+        String closingDelimiter = "\r\n--" + boundary.group(1);
+        try (InputStream body = new BufferedInputStream(exchange.getRequestBody())) {
+            String partHeaders = readPartHeaders(body);
+            Matcher fileName = partHeaders == null ? null : FILE_NAME.matcher(partHeaders);
+            if (fileName == null || !fileName.find()) {
+                sendJson(exchange, 400, response(400, "unknown", "no file part"));
+                return;
+            }
+
+            byte[] chunk = new byte[64 * 1024];
+            byte[] tail = new byte[closingDelimiter.length() + 64];
+            int tailLength = 0;
+            long received = 0;
+            for (int read; (read = body.read(chunk)) != -1; ) {
+                received += read;
+                int keep = Math.min(tailLength, tail.length - Math.min(read, tail.length));
+                System.arraycopy(tail, tailLength - keep, tail, 0, keep);
+                int copied = Math.min(read, tail.length);
+                System.arraycopy(chunk, read - copied, tail, keep, copied);
+                tailLength = keep + copied;
+            }
+            int delimiterAt = new String(tail, 0, tailLength, StandardCharsets.ISO_8859_1).lastIndexOf(closingDelimiter);
+            if (delimiterAt < 0) {
+                sendJson(exchange, 400, response(400, "unknown", "multipart body is not terminated"));
+                return;
+            }
+            long fileBytes = received - (tailLength - delimiterAt);
+            sendJson(exchange, 200, response(200, "unknown", "additionalMetadata: null\nFile uploaded to ./"
+                    + fileName.group(1) + ", " + fileBytes + " bytes"));
+        }
+    }
+
+    // skips the opening delimiter and returns the headers of the first part, or null if they never end
+    private static String readPartHeaders(InputStream body) throws IOException {
+        StringBuilder headers = new StringBuilder();
+        for (int next; headers.length() < MAX_PART_HEADER_BYTES && (next = body.read()) != -1; ) {
+            headers.append((char) next);
+            if (headers.length() >= 4 && headers.lastIndexOf("\r\n\r\n") == headers.length() - 4) {
+                return headers.toString();
+            }
+        }
+        return null;
+    }
+
+    private User readUser(HttpExchange exchange) throws IOException {
+        try {
+            return MAPPER.readValue(readBody(exchange), User.class);
+        } catch (JsonProcessingException e) {
+            sendJson(exchange, 400, response(400, "unknown", "bad input"));
+            return null;
+        }
+    }
+
+    private void write(String username, User user) {
+        if (username == null) {
+            return;
+        }
+        long visibleAt = System.currentTimeMillis() + visibilityDelay.nextMillis();
+        users.computeIfAbsent(username, key -> new VersionedUser()).write(user, visibleAt);
+    }
+
+    private static BasicPetStoreResponse response(int code, String type, String message) {
+        BasicPetStoreResponse response = new BasicPetStoreResponse();
+        response.setCode(code);
+        response.setType(type);
+        response.setMessage(message);
+        return response;
+    }
+
+    /**
+     * Writes land on the "primary" immediately but only become readable once their visibility time has
+     * passed; visibility times never go backwards so readers cannot observe writes out of order.
+     */
+    private static class VersionedUser {
+
+        private final Deque<Version> pending = new ArrayDeque<>();
+        private Version latest;
+        private Version visible;
+
+        synchronized void write(User user, long visibleAt) {
+            long monotonicVisibleAt = latest == null ? visibleAt : Math.max(visibleAt, latest.visibleAt);
+            latest = new Version(user, monotonicVisibleAt);
+            pending.addLast(latest);
+        }
+
+        synchronized User latest() {
+            return latest == null ? null : latest.user;
+        }
+
+        synchronized User visible(long now) {
+            while (!pending.isEmpty() && pending.peekFirst().visibleAt <= now) {
+                visible = pending.pollFirst();
+            }
+            return visible == null ? null : visible.user;
+        }
+    }
+
+    private static class Version {
+        private final User user;
+        private final long visibleAt;
+
+        private Version(User user, long visibleAt) {
+            this.user = user;
+            this.visibleAt = visibleAt;
+        }
+    }
+
+    private static class Holder {
+        private static final PetstoreStub INSTANCE = new PetstoreStub();
+    }
+}
@@ -0,0 +1,113 @@
+package Stubs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public abstract class StubServer {
+
+    public static final String EMBEDDED = "embedded";
+
+    protected static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static {
+        // the JDK server writes headers and body separately; without TCP_NODELAY every keep-alive
+        // response stalls on Nagle + delayed ACK for ~40 ms
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private volatile Duration responseLatency = Duration.ZERO;
+
+    protected StubServer(String name) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start " + name + " stub", e);
+        }
+        executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, name + "-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::dispatch);
+        server.setExecutor(executor);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort() + "/";
+    }
+
+    public Duration getResponseLatency() {
+        return responseLatency;
+    }
+
+    // stands in for the round trip to a remote environment when measuring how calls overlap
+    public void setResponseLatency(Duration responseLatency) {
+        this.responseLatency = responseLatency;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    protected abstract void handle(HttpExchange exchange) throws IOException;
+
+    protected static String withTrailingSlash(String url) {
+        return url.endsWith("/") ? url : url + "/";
+    }
+
+    protected byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return body.readAllBytes();
+        }
+    }
+
+    protected void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        send(exchange, status, MAPPER.writeValueAsBytes(body));
+    }
+
+    protected void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void dispatch(HttpExchange exchange) {
+        try {
+            if (!responseLatency.isZero()) {
+                Thread.sleep(responseLatency.toMillis());
+            }
+            handle(exchange);
+        } catch (Exception e) {
+            try {
+                sendEmpty(exchange, 500);
+            } catch (IOException ignored) {
+                // headers were already sent, nothing left to report
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package Stubs;
+
+import Models.GenderForSuperhero;
+import Models.Superhero;
+import Models.SuperheroError;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SuperheroStub extends StubServer {
+
+    private static final Pattern COLLECTION = Pattern.compile("/superheroes/?");
+    private static final Pattern ITEM = Pattern.compile("/superheroes/([^/]+)/?");
+    private static final List<String> REQUIRED_FIELDS = List.of("birthDate", "city", "fullName", "gender", "mainSkill");
+    // keep generated ids clear of the small ids the suite treats as "never used"
+    private static final long FIRST_ID = 1000;
+
+    private final Map<Long, Superhero> heroes = new ConcurrentSkipListMap<>();
+    private final AtomicLong ids = new AtomicLong(FIRST_ID);
+
+    private SuperheroStub() {
+        super("superhero");
+    }
+
+    public static SuperheroStub get() {
+        return Holder.INSTANCE;
+    }
+
+    public static String resolveBaseUrl(String configuredUrl) {
+        return EMBEDDED.equalsIgnoreCase(configuredUrl) ? get().getBaseUrl() : withTrailingSlash(configuredUrl);
+    }
+
+    public void reset() {
+        heroes.clear();
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+
+        if (COLLECTION.matcher(path).matches()) {
+            switch (method) {
+                case "GET" -> sendJson(exchange, 200, heroes.values());
+                case "POST" -> save(exchange, ids.incrementAndGet(), path);
+                default -> sendMethodNotAllowed(exchange, method, path);
+            }
+            return;
+        }
+
+        Matcher item = ITEM.matcher(path);
+        if (!item.matches()) {
+            sendSpringError(exchange, 404, "Not Found", "No message available", path);
+            return;
+        }
+
+        long id;
+        try {
+            id = Long.parseLong(item.group(1));
+        } catch (NumberFormatException e) {
+            sendSpringError(exchange, 400, "Bad Request",
+                    "Failed to convert value of type 'java.lang.String' to required type 'long'", path);
+            return;
+        }
+
+        switch (method) {
+            case "GET" -> {
+                Superhero hero = heroes.get(id);
+                if (hero == null) {
+                    sendNotFound(exchange, id);
+                } else {
+                    sendJson(exchange, 200, hero);
+                }
+            }
+            case "PUT" -> {
+                if (heroes.containsKey(id)) {
+                    save(exchange, id, path);
+                } else {
+                    sendNotFound(exchange, id);
+                }
+            }
+            // like the real service: 200 whether or not the hero existed
+            case "DELETE" -> {
+                heroes.remove(id);
+                sendEmpty(exchange, 200);
+            }
+            default -> sendMethodNotAllowed(exchange, method, path);
+        }
+    }
+
+    private void save(HttpExchange exchange, long id, String path) throws IOException {
+        JsonNode body;
+        try {
+            body = MAPPER.readTree(readBody(exchange));
+        } catch (JsonProcessingException e) {
+            sendSpringError(exchange, 400, "Bad Request", "JSON parse error: " + e.getOriginalMessage(), path);
+            return;
+        }
+
+        String birthDate = text(body, "birthDate");
+        String gender = text(body, "gender");
+        try {
+            if (birthDate != null) {
+                LocalDate.parse(birthDate);
+            }
+        } catch (DateTimeParseException e) {
+            sendSpringError(exchange, 400, "Bad Request", "JSON parse error: Cannot deserialize value of type "
+                    + "`java.time.LocalDate` from String \"" + birthDate + "\": " + e.getMessage(), path);
+            return;
+        }
+        if (gender != null && !gender.equals("M") && !gender.equals("F")) {
+            sendSpringError(exchange, 400, "Bad Request", "JSON parse error: Cannot deserialize value of type "
+                    + "`Gender` from String \"" + gender + "\": not one of the values accepted for Enum class: [F, M]", path);
+            return;
+        }
+        for (String field : REQUIRED_FIELDS) {
+            if (text(body, field) == null) {
+                sendSpringError(exchange, 500, "Internal Server Error", "could not execute statement; SQL [n/a]; "
+                        + "constraint [null]; nested exception is org.hibernate.exception.ConstraintViolationException: "
+                        + "could not execute statement", path);
+                return;
+            }
+        }
+
+        Superhero hero = Superhero.builder()
+                .id(id)
+                .birthDate(birthDate)
+                .city(text(body, "city"))
+                .fullName(text(body, "fullName"))
+                .gender(GenderForSuperhero.valueOf(gender))
+                .mainSkill(text(body, "mainSkill"))
+                // the real service does not store the phone, so neither does the stub
+                .phone(null)
+                .build();
+        heroes.put(id, hero);
+        sendJson(exchange, 200, hero);
+    }
+
+    private void sendNotFound(HttpExchange exchange, long id) throws IOException {
+        sendJson(exchange, 400, new SuperheroError(String.format("Superhero with id '%d' was not found", id), "NOT_FOUND"));
+    }
+
+    private void sendMethodNotAllowed(HttpExchange exchange, String method, String path) throws IOException {
+        sendSpringError(exchange, 405, "Method Not Allowed", "Request method '" + method + "' not supported", path);
+    }
+
+    private void sendSpringError(HttpExchange exchange, int status, String error, String message, String path)
+            throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", Instant.now().toString());
+        body.put("status", status);
+        body.put("error", error);
+        body.put("message", message);
+        body.put("path", path);
+        sendJson(exchange, status, body);
+    }
+
+    private static String text(JsonNode body, String field) {
+        JsonNode value = body.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static class Holder {
+        private static final SuperheroStub INSTANCE = new SuperheroStub();
+    }
+}
@@ -0,0 +1,101 @@
+package Stubs;
+
+import java.util.Random;
+
+public abstract class VisibilityDelay {
+
+    private static final long DEFAULT_SEED = 2025L;
+
+    private final Random random;
+
+    private VisibilityDelay(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public static VisibilityDelay none() {
+        return fixed(0);
+    }
+
+    public static VisibilityDelay fixed(long millis) {
+        return new VisibilityDelay(DEFAULT_SEED) {
+            @Override
+            protected long sample(Random random) {
+                return millis;
+            }
+
+            @Override
+            public String toString() {
+                return "fixed:" + millis;
+            }
+        };
+    }
+
+    public static VisibilityDelay uniform(long minMillis, long maxMillis, long seed) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("Uniform delay max " + maxMillis + " is less than min " + minMillis);
+        }
+        return new VisibilityDelay(seed) {
+            @Override
+            protected long sample(Random random) {
+                return minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+            }
+
+            @Override
+            public String toString() {
+                return "uniform:" + minMillis + "-" + maxMillis;
+            }
+        };
+    }
+
+    public static VisibilityDelay pareto(long scaleMillis, double shape, long capMillis, long seed) {
+        if (shape <= 0) {
+            throw new IllegalArgumentException("Pareto shape must be positive but was " + shape);
+        }
+        return new VisibilityDelay(seed) {
+            @Override
+            protected long sample(Random random) {
+                double value = scaleMillis / Math.pow(1.0 - random.nextDouble(), 1.0 / shape);
+                return Math.min(capMillis, (long) value);
+            }
+
+            @Override
+            public String toString() {
+                return "pareto:" + scaleMillis + ":" + shape + ":" + capMillis;
+            }
+        };
+    }
+
+    /**
+     * Accepts {@code none}, {@code fixed:<ms>}, {@code uniform:<min>-<max>} and
+     * {@code pareto:<scale>:<shape>[:<cap>]}, all values in milliseconds.
+     */
+    public static VisibilityDelay parse(String spec, long seed) {
+        String[] parts = spec.trim().split(":");
+        try {
+            return switch (parts[0]) {
+                case "none" -> none();
+                case "fixed" -> fixed(Long.parseLong(parts[1]));
+                case "uniform" -> {
+                    String[] bounds = parts[1].split("-");
+                    yield uniform(Long.parseLong(bounds[0]), Long.parseLong(bounds[1]), seed);
+                }
+                case "pareto" -> pareto(Long.parseLong(parts[1]), Double.parseDouble(parts[2]),
+                        parts.length > 3 ? Long.parseLong(parts[3]) : 10_000, seed);
+                default -> throw new IllegalArgumentException("Unknown delay kind '" + parts[0] + "'");
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid visibility delay '" + spec + "'", e);
+        }
+    }
+
+    public static VisibilityDelay fromSystemProperties(String prefix) {
+        return parse(System.getProperty(prefix + ".visibilityDelay", "none"),
+                Long.getLong(prefix + ".visibilityDelay.seed", DEFAULT_SEED));
+    }
+
+    public synchronized long nextMillis() {
+        return Math.max(0, sample(random));
+    }
+
+    protected abstract long sample(Random random);
+}
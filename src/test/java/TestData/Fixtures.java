@@ -0,0 +1,68 @@
+package TestData;
+
+import Models.Superhero;
+import Models.User;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out fresh copies of the templates in {@link SuperheroTestData} and {@link UserTestData}, so no test ever
+ * holds an object another test can change. Usernames and client-chosen ids are built from a per-run key and a
+ * lock-free counter: unique within the JVM by construction, and across JVMs as long as their run keys differ.
+ * The key is random unless {@code -Dfixtures.runId} pins it, e.g. to a CI shard number.
+ */
+public final class Fixtures {
+
+    private static final String RUN_ID = System.getProperty("fixtures.runId",
+            Integer.toString(ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE), Character.MAX_RADIX));
+    // upper 31 bits of every id; the lower 32 are the sequence number, which keeps ids positive
+    private static final long RUN_KEY = (long) (RUN_ID.hashCode() & Integer.MAX_VALUE) << 32;
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private Fixtures() {
+    }
+
+    public static String getRunId() {
+        return RUN_ID;
+    }
+
+    /**
+     * {@code <prefix>_<run id>_<sequence>}, e.g. {@code test_user_k2x9ab_17}.
+     */
+    public static String uniqueName(String prefix) {
+        return prefix + "_" + RUN_ID + "_" + SEQUENCE.incrementAndGet();
+    }
+
+    public static long uniqueId() {
+        return RUN_KEY | SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * A copy of {@link UserTestData#DEFAULT_USER} with its own id, username and e-mail.
+     */
+    public static User user() {
+        return user(UserTestData.DEFAULT_USER);
+    }
+
+    public static User user(User template) {
+        long sequence = SEQUENCE.incrementAndGet();
+        String username = "test_user_" + RUN_ID + "_" + sequence;
+        return new User(RUN_KEY | sequence, username, template.getFirstName(), template.getLastName(),
+                username + "@example.com", template.getPassword(), template.getPhone(), template.getUserStatus());
+    }
+
+    /**
+     * A copy of a hero template without an id; the service assigns one on creation.
+     */
+    public static Superhero hero(Superhero template) {
+        return Superhero.builder()
+                .birthDate(template.getBirthDate())
+                .city(template.getCity())
+                .fullName(template.getFullName())
+                .gender(template.getGender())
+                .mainSkill(template.getMainSkill())
+                .phone(template.getPhone())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package TestData;
+
+import Models.GenderForSuperhero;
+import Models.Superhero;
+
+// a template that fails loudly when a test tries to change it instead of taking a copy from Fixtures
+class ReadOnlySuperhero extends Superhero {
+
+    ReadOnlySuperhero(Superhero template) {
+        super(template.getBirthDate(), template.getCity(), template.getFullName(), template.getGender(),
+                template.getId(), template.getMainSkill(), template.getPhone());
+    }
+
+    @Override
+    public void setBirthDate(String birthDate) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCity(String city) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setFullName(String fullName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setGender(GenderForSuperhero gender) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setId(long id) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setMainSkill(String mainSkill) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setPhone(String phone) {
+        throw readOnly();
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Hero templates are shared; take a copy of " + getFullName() + " with Fixtures.hero");
+    }
+}
@@ -0,0 +1,56 @@
+package TestData;
+
+import Models.User;
+
+// a template that fails loudly when a test tries to change it instead of taking a copy from Fixtures
+class ReadOnlyUser extends User {
+
+    ReadOnlyUser(long id, String username, String firstName, String lastName, String email, String password,
+                 String phone, int userStatus) {
+        super(id, username, firstName, lastName, email, password, phone, userStatus);
+    }
+
+    @Override
+    public void setId(long id) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setUsername(String username) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setFirstName(String firstName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setLastName(String lastName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setEmail(String email) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setPassword(String password) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setPhone(String phone) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setUserStatus(int userStatus) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("User templates are shared; take a copy with Fixtures.user");
+    }
+}
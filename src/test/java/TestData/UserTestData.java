@@ -2,11 +2,14 @@ package TestData;
 
 import Models.User;
 
+/**
+ * Read-only templates: their setters throw, tests that write users take their own copies from {@link Fixtures#user()}.
+ */
 public class UserTestData {
-    public static final User DEFAULT_USER = new User
+    public static final User DEFAULT_USER = new ReadOnlyUser
             (98710631690823L, "test_user_neo_2025", "Tomas", "Anderson", "neo2025@example.com",
                     "followthewhiterabbit", "+5781438", 0);
 
-    public static final User INVALID_USER = new User();
+    public static final User INVALID_USER = new ReadOnlyUser(0, null, null, null, null, null, null, 0);
 }
 
@@ -0,0 +1,73 @@
+package Tests;
+
+import Controllers.FluentSuperheroController;
+import Controllers.UserController;
+import Models.Superhero;
+import Models.SuperheroFieldComparator;
+import Models.User;
+import Models.UserFieldComparator;
+import Stubs.PetstoreStub;
+import Stubs.SuperheroStub;
+import TestData.Fixtures;
+import org.junit.jupiter.api.*;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static TestData.SuperheroTestData.BASIC_HERO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncControllerTests {
+
+    private final FluentSuperheroController fluentSuperheroController =
+            new FluentSuperheroController(SuperheroStub.get().getBaseUrl());
+    private final UserController userController = new UserController(PetstoreStub.get().getBaseUrl());
+
+    @AfterEach
+    void clearTestData() {
+        fluentSuperheroController.deleteCreatedHeroes();
+        userController.deleteCreatedUsers();
+    }
+
+    @DisplayName("create, wait, update and get compose without blocking the test thread in between")
+    @Tags({@Tag("concurrency"), @Tag("API")})
+    @Test
+    void createUpdateAndGetCompose() {
+        Superhero renamed = Superhero.builder()
+                .birthDate(BASIC_HERO.getBirthDate())
+                .city(BASIC_HERO.getCity())
+                .fullName("Async Rogers")
+                .gender(BASIC_HERO.getGender())
+                .mainSkill(BASIC_HERO.getMainSkill())
+                .phone(BASIC_HERO.getPhone())
+                .build();
+
+        Superhero actual = fluentSuperheroController.createHeroAsync(BASIC_HERO)
+                .thenApply(created -> created.statusCodeIs(200).getSuperheroFromResponse().getId())
+                .thenCompose(id -> fluentSuperheroController.awaitHeroVisibleAsync(id)
+                        .thenCompose(visible -> fluentSuperheroController.updateHeroAsync(renamed, id))
+                        .thenCompose(updated -> fluentSuperheroController.awaitHeroFieldsAsync(id, renamed, "fullName")))
+                .join()
+                .getSuperheroFromResponse();
+
+        // the service does not store the phone
+        SuperheroFieldComparator.INSTANCE.assertMatches(actual, renamed, Set.of("id", "phone"));
+    }
+
+    @DisplayName("independent hero and user requests run side by side")
+    @Tags({@Tag("concurrency"), @Tag("API")})
+    @Test
+    void independentRequestsOverlap() {
+        User user = Fixtures.user();
+
+        CompletableFuture<Long> hero = fluentSuperheroController.createHeroAsync(BASIC_HERO)
+                .thenApply(response -> response.statusCodeIs(200).getSuperheroFromResponse().getId());
+        CompletableFuture<User> storedUser = userController.createUserAsync(user)
+                .thenCompose(created -> userController.getUserByNameAsync(user.getUsername()))
+                .thenApply(response -> response.as(User.class));
+
+        CompletableFuture.allOf(hero, storedUser).join();
+        UserFieldComparator.INSTANCE.assertMatches(storedUser.join(), user, Set.of("id"));
+        assertThat(fluentSuperheroController.getCreatedHeroIds()).containsExactly(hero.join());
+    }
+}
@@ -0,0 +1,125 @@
+package Tests;
+
+import Reporting.AsyncResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class AsyncResultsWriterTests {
+
+    @TempDir
+    Path resultsDirectory;
+
+    @DisplayName("everything queued before close ends up on disk, even through a queue of one")
+    @Test
+    void closeFlushesEverything() throws IOException {
+        AsyncResultsWriter writer = new AsyncResultsWriter(resultsDirectory, 1);
+        for (int i = 0; i < 200; i++) {
+            writer.write("attachment-" + i + ".txt", new ByteArrayInputStream(("body " + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        writer.write(new TestResult().setUuid("result-uuid").setName("closeFlushesEverything"));
+        writer.write(new TestResultContainer().setUuid("container-uuid"));
+        writer.close();
+
+        assertThat(writer.getFailedWrites()).isZero();
+        assertThat(Files.readString(resultsDirectory.resolve("attachment-199.txt"))).isEqualTo("body 199");
+        assertThat(Files.readString(resultsDirectory.resolve("result-uuid-result.json"))).contains("closeFlushesEverything");
+        assertThat(resultsDirectory.resolve("container-uuid-container.json")).exists();
+        try (Stream<Path> files = Files.list(resultsDirectory)) {
+            assertThat(files.count()).isEqualTo(202);
+        }
+    }
+
+    @DisplayName("writers do not wait for a stalled disk while the queue has room")
+    @Test
+    void writesDoNotWaitForTheDisk() throws IOException {
+        AsyncResultsWriter writer = new AsyncResultsWriter(resultsDirectory, 1024);
+        CountDownLatch diskStalled = new CountDownLatch(1);
+        writer.write("stalled.txt", new StalledContent("stalled".getBytes(StandardCharsets.UTF_8), diskStalled));
+
+        // the writer thread is stuck on the first attachment, so these only return if nothing waits for the disk
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 100; i++) {
+                writer.write("attachment-" + i + ".txt", new ByteArrayInputStream(new byte[16 * 1024]));
+            }
+        });
+
+        assertThat(resultsDirectory.resolve("attachment-0.txt")).doesNotExist();
+        diskStalled.countDown();
+        writer.flush();
+        assertThat(Files.size(resultsDirectory.resolve("attachment-99.txt"))).isEqualTo(16 * 1024);
+        assertThat(Files.readString(resultsDirectory.resolve("stalled.txt"))).isEqualTo("stalled");
+        writer.close();
+    }
+
+    @DisplayName("results written while close is running are not lost")
+    @Test
+    void writesRacingCloseReachTheDisk() throws Exception {
+        AsyncResultsWriter writer = new AsyncResultsWriter(resultsDirectory, 4);
+        int writers = 4;
+        int perWriter = 200;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int writerId = w;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perWriter; i++) {
+                    writer.write("attachment-" + writerId + "-" + i + ".txt", new ByteArrayInputStream(new byte[]{1}));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        writer.close();
+        for (Thread thread : threads) {
+            thread.join(10_000);
+        }
+
+        assertThat(writer.getFailedWrites()).isZero();
+        try (Stream<Path> files = Files.list(resultsDirectory)) {
+            assertThat(files.count()).isEqualTo(writers * perWriter);
+        }
+    }
+
+    // in-memory content that is not handed over until released, standing in for a stalled disk on the writer thread
+    private static class StalledContent extends ByteArrayInputStream {
+
+        private final CountDownLatch released;
+
+        StalledContent(byte[] content, CountDownLatch released) {
+            super(content);
+            this.released = released;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.read(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package Tests;
+
+import Json.CompiledJsonPath;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledJsonPathTests {
+
+    private static final String BODY = "{\"status\":400,\"error\":\"Bad Request\",\"message\":null,"
+            + "\"heroes\":[{\"id\":1001,\"fullName\":\"Tony Stark\",\"city\":\"New York\",\"gender\":\"M\"},"
+            + "{\"id\":1002,\"fullName\":\"Bruce Wayne\",\"city\":\"Gotham\",\"gender\":\"M\"},"
+            + "{\"id\":1003,\"fullName\":\"Natasha\",\"city\":\"Bucharest\",\"gender\":\"F\",\"phone\":\"+6719808254\"}]}";
+
+    private static JsonNode tree;
+    private static JsonPath gpath;
+
+    @BeforeAll
+    static void parseBody() throws Exception {
+        tree = new ObjectMapper().readTree(BODY);
+        gpath = new JsonPath(BODY);
+    }
+
+    @DisplayName("compiled path returns the same value as GPath")
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "status", "error", "message", "missing", "heroes[0].fullName", "heroes[-1].id", "heroes[7].id",
+            "heroes[1].city", "heroes.find { it.city == 'Gotham' }.fullName", "heroes.find { it.id == 1003 }.phone",
+            "heroes.find { it.gender != \"M\" }.fullName", "heroes.find { it.city == 'Atlantis' }.fullName",
+            "heroes.find { it.phone == null }.id"})
+    void matchesGPath(String path) {
+        assertThat(CompiledJsonPath.compile(path)).as("compiles " + path).isPresent();
+        JsonNode node = CompiledJsonPath.compile(path).orElseThrow().evaluate(tree);
+        String actual = node.isMissingNode() || node.isNull() ? null : node.asText();
+
+        assertThat(actual).isEqualTo(gpath.getString(path));
+    }
+
+    @DisplayName("compiled filters return every match for findAll")
+    @Test
+    void findAllCollectsMatches() {
+        JsonNode names = CompiledJsonPath.compile("heroes.findAll { it.gender == 'M' }.fullName")
+                .orElseThrow().evaluate(tree);
+
+        assertThat(names).hasSize(2);
+        assertThat(names.get(0).asText()).isEqualTo("Tony Stark");
+        assertThat(names.get(1).asText()).isEqualTo("Bruce Wayne");
+    }
+
+    @DisplayName("expressions outside the supported subset are left to GPath")
+    @ParameterizedTest
+    @ValueSource(strings = {"heroes.size()", "heroes.collect { it.id }", "heroes*.id", "heroes[0..1]", "$.heroes[1].city", ""})
+    void unsupportedExpressionsAreNotCompiled(String path) {
+        assertThat(CompiledJsonPath.compile(path)).isEmpty();
+    }
+}
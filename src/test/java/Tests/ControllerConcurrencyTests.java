@@ -0,0 +1,117 @@
+package Tests;
+
+import Controllers.FluentSuperheroController;
+import Controllers.UserController;
+import Models.BasicPetStoreResponse;
+import Models.Superhero;
+import Models.User;
+import Stubs.PetstoreStub;
+import Stubs.SuperheroStub;
+import TestData.Fixtures;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static TestData.SuperheroTestData.BASIC_HERO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ControllerConcurrencyTests {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 20;
+
+    private final FluentSuperheroController fluentSuperheroController =
+            new FluentSuperheroController(SuperheroStub.get().getBaseUrl());
+    private final UserController userController = new UserController(PetstoreStub.get().getBaseUrl());
+    private final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @DisplayName("one superhero controller shared by many threads keeps request bodies apart")
+    @Tags({@Tag("concurrency"), @Tag("API")})
+    @Test
+    void sharedSuperheroControllerKeepsBodiesApart() throws Exception {
+        List<Long> createdIds = runConcurrently(worker -> {
+            List<Long> ids = new ArrayList<>();
+            for (int call = 0; call < CALLS_PER_THREAD; call++) {
+                String name = "worker-" + worker + "-call-" + call;
+                Superhero created = fluentSuperheroController.createHero(heroNamed(name))
+                        .statusCodeIs(200)
+                        .getSuperheroFromResponse();
+                assertThat(created.getFullName()).as("create response of " + name).isEqualTo(name);
+
+                Superhero updated = fluentSuperheroController.updateHero(heroNamed(name + "-updated"), created.getId())
+                        .statusCodeIs(200)
+                        .getSuperheroFromResponse();
+                assertThat(updated.getFullName()).as("update response of " + name).isEqualTo(name + "-updated");
+                ids.add(created.getId());
+            }
+            return ids;
+        });
+
+        assertThat(createdIds).hasSize(THREADS * CALLS_PER_THREAD).doesNotHaveDuplicates();
+        assertThat(fluentSuperheroController.deleteCreatedHeroes().getDeleted()).isEqualTo(createdIds.size());
+    }
+
+    @DisplayName("one user controller shared by many threads keeps request bodies apart")
+    @Tags({@Tag("concurrency"), @Tag("API")})
+    @Test
+    void sharedUserControllerKeepsBodiesApart() throws Exception {
+        List<String> usernames = runConcurrently(worker -> {
+            List<String> created = new ArrayList<>();
+            for (int call = 0; call < CALLS_PER_THREAD; call++) {
+                User user = Fixtures.user();
+                String username = user.getUsername();
+
+                BasicPetStoreResponse createResponse = userController.createUser(user).as(BasicPetStoreResponse.class);
+                assertThat(createResponse.getMessage()).isEqualTo(String.valueOf(user.getId()));
+                assertThat(userController.getUserByName(username).as(User.class)).isEqualTo(user);
+                created.add(username);
+            }
+            return created;
+        });
+
+        assertThat(usernames).hasSize(THREADS * CALLS_PER_THREAD).doesNotHaveDuplicates();
+        assertThat(userController.deleteCreatedUsers().getDeleted()).isEqualTo(usernames.size());
+    }
+
+    private <T> List<T> runConcurrently(Worker<T> worker) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<T>>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int workerId = i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                return worker.run(workerId);
+            }));
+        }
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<List<T>> future : futures) {
+            results.addAll(future.get(60, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static Superhero heroNamed(String fullName) {
+        return Superhero.builder()
+                .birthDate(BASIC_HERO.getBirthDate())
+                .city(BASIC_HERO.getCity())
+                .fullName(fullName)
+                .gender(BASIC_HERO.getGender())
+                .mainSkill(BASIC_HERO.getMainSkill())
+                .phone(BASIC_HERO.getPhone())
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Worker<T> {
+        List<T> run(int workerId) throws Exception;
+    }
+}
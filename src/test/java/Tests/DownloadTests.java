@@ -0,0 +1,92 @@
+package Tests;
+
+import Controllers.DownloadController;
+import Controllers.DownloadResult;
+import Stubs.FileStub;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DownloadTests {
+
+    private static final long SIZE = 8L * 1024 * 1024 + 123;
+
+    private final DownloadController downloadController = new DownloadController();
+
+    @TempDir
+    Path downloadDirectory;
+
+    @DisplayName("a file split into ranges is reassembled byte for byte")
+    @Tag("API")
+    @Test
+    void segmentedDownloadMatchesSource() throws Exception {
+        String url = FileStub.get().publish("segmented.bin", FileStub.ServedFile.builder().size(SIZE).build());
+        Path target = downloadDirectory.resolve("segmented.bin");
+
+        DownloadResult result = downloadController.download(url, target, 4);
+
+        assertThat(result.getSegments()).isEqualTo(4);
+        assertThat(result.getStatusCode()).isEqualTo(206);
+        assertThat(result.getSha256()).isEqualTo(FileStub.sha256Of(SIZE));
+        assertThat(Files.size(target)).isEqualTo(SIZE);
+        assertThat(FileStub.get().getBytesServed("segmented.bin")).isEqualTo(SIZE);
+        assertThat(downloadDirectory.resolve("segmented.bin.download")).doesNotExist();
+        assertThat(downloadDirectory.resolve("segmented.bin.part")).doesNotExist();
+    }
+
+    @DisplayName("without Accept-Ranges the download falls back to a single stream")
+    @Tag("API")
+    @Test
+    void serverWithoutRangesFallsBackToStreaming() throws Exception {
+        String url = FileStub.get().publish("no-ranges.bin",
+                FileStub.ServedFile.builder().size(SIZE).acceptRanges(false).build());
+
+        DownloadResult result = downloadController.download(url, downloadDirectory.resolve("no-ranges.bin"), 8);
+
+        assertThat(result.getSegments()).isEqualTo(1);
+        assertThat(result.getStatusCode()).isEqualTo(200);
+        assertThat(result.getSha256()).isEqualTo(FileStub.sha256Of(SIZE));
+    }
+
+    @DisplayName("every range request is conditional on the validator the download started with")
+    @Tag("API")
+    @Test
+    void rangeRequestsCarryIfRange() throws Exception {
+        String url = FileStub.get().publish("validated.bin",
+                FileStub.ServedFile.builder().size(SIZE).etag("\"v1\"").build());
+
+        DownloadResult result = downloadController.download(url, downloadDirectory.resolve("validated.bin"), 4);
+
+        assertThat(result.getSha256()).isEqualTo(FileStub.sha256Of(SIZE));
+        assertThat(FileStub.get().getConditionalRanges("validated.bin")).isEqualTo(4);
+    }
+
+    @DisplayName("an interrupted segmented download resumes from its sidecar and only fetches the missing bytes")
+    @Tag("API")
+    @Test
+    void interruptedDownloadResumes() throws Exception {
+        FileStub.ServedFile flaky = FileStub.ServedFile.builder().size(SIZE).abortAfterBytes(1024 * 1024).build();
+        String url = FileStub.get().publish("resumed.bin", flaky);
+        Path target = downloadDirectory.resolve("resumed.bin");
+
+        assertThatThrownBy(() -> downloadController.download(url, target, 4))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("run it again to resume");
+        assertThat(downloadDirectory.resolve("resumed.bin.download")).exists();
+        assertThat(target).doesNotExist();
+
+        FileStub.get().publish("resumed.bin", flaky.toBuilder().abortAfterBytes(0).build());
+        DownloadResult result = downloadController.download(url, target, 4);
+
+        assertThat(result.getResumedBytes()).isPositive();
+        assertThat(FileStub.get().getBytesServed("resumed.bin")).isEqualTo(SIZE - result.getResumedBytes());
+        assertThat(result.getSha256()).isEqualTo(FileStub.sha256Of(SIZE));
+        assertThat(downloadDirectory.resolve("resumed.bin.download")).doesNotExist();
+    }
+}
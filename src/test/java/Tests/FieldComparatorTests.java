@@ -0,0 +1,66 @@
+package Tests;
+
+import Models.Superhero;
+import Models.SuperheroFieldComparator;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Set;
+
+import static TestData.SuperheroTestData.BASIC_HERO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FieldComparatorTests {
+
+    private static final SuperheroFieldComparator HEROES = SuperheroFieldComparator.INSTANCE;
+
+    @DisplayName("generated comparator lists every differing field with both values")
+    @Test
+    void reportsEveryDifferingField() {
+        Superhero actual = basicHero().fullName("Someone Else").city(null).id(7).build();
+
+        assertThatThrownBy(() -> HEROES.assertMatches(actual, BASIC_HERO, Set.of()))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("but 3 field(s) differ")
+                .hasMessageContaining("city: expected \"" + BASIC_HERO.getCity() + "\" but was null")
+                .hasMessageContaining("fullName: expected \"" + BASIC_HERO.getFullName() + "\" but was \"Someone Else\"")
+                .hasMessageContaining("id: expected " + BASIC_HERO.getId() + " but was 7");
+    }
+
+    @DisplayName("ignored fields are skipped instead of copied onto the expected object")
+    @Test
+    void ignoredFieldsAreSkipped() {
+        Superhero saved = basicHero().id(42).build();
+
+        HEROES.assertMatches(saved, BASIC_HERO, HEROES.ignoring("id"));
+        assertThat(HEROES.matches(saved, BASIC_HERO, Set.of())).isFalse();
+        assertThat(BASIC_HERO.getId()).isZero();
+        assertThatThrownBy(() -> HEROES.ignoring("identifier"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("has no field 'identifier'");
+    }
+
+    @DisplayName("list comparison reports the index of each mismatch and size differences")
+    @Test
+    void listComparisonReportsIndexes() {
+        Superhero renamed = basicHero().fullName("Renamed").build();
+
+        assertThatThrownBy(() -> HEROES.assertAllMatch(List.of(BASIC_HERO, renamed),
+                List.of(BASIC_HERO, BASIC_HERO, BASIC_HERO), Set.of()))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("the sizes differ and 1 element(s) differ")
+                .hasMessageContaining("[1] 1 field(s) differ")
+                .hasMessageNotContaining("[0]");
+    }
+
+    private static Superhero.SuperheroBuilder basicHero() {
+        return Superhero.builder()
+                .birthDate(BASIC_HERO.getBirthDate())
+                .city(BASIC_HERO.getCity())
+                .fullName(BASIC_HERO.getFullName())
+                .gender(BASIC_HERO.getGender())
+                .mainSkill(BASIC_HERO.getMainSkill())
+                .phone(BASIC_HERO.getPhone());
+    }
+}
@@ -0,0 +1,76 @@
+package Tests;
+
+import Models.Superhero;
+import Models.SuperheroFieldComparator;
+import Models.User;
+import TestData.Fixtures;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static TestData.SuperheroTestData.BASIC_HERO;
+import static TestData.UserTestData.DEFAULT_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FixturesTests {
+
+    @DisplayName("users handed out to many threads never share a username or id")
+    @Test
+    void concurrentUsersAreUnique() throws Exception {
+        int threads = 8;
+        int usersPerThread = 10_000;
+        Set<String> usernames = ConcurrentHashMap.newKeySet();
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(pool.submit(() -> {
+                    for (int n = 0; n < usersPerThread; n++) {
+                        User user = Fixtures.user();
+                        usernames.add(user.getUsername());
+                        ids.add(user.getId());
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(usernames).hasSize(threads * usersPerThread)
+                .allMatch(username -> username.contains("_" + Fixtures.getRunId() + "_"));
+        assertThat(ids).hasSize(threads * usersPerThread).allMatch(id -> id > 0);
+    }
+
+    @DisplayName("fixtures are copies, changing one leaves the template alone")
+    @Test
+    void fixturesAreCopies() {
+        User user = Fixtures.user();
+        user.setFirstName("Changed");
+        Superhero hero = Fixtures.hero(BASIC_HERO);
+        hero.setCity("Changed");
+
+        assertThat(DEFAULT_USER.getFirstName()).isNotEqualTo("Changed");
+        assertThat(user.getUsername()).isNotEqualTo(DEFAULT_USER.getUsername());
+        assertThat(BASIC_HERO.getCity()).isNotEqualTo("Changed");
+        SuperheroFieldComparator.INSTANCE.assertMatches(Fixtures.hero(BASIC_HERO), BASIC_HERO, Set.of());
+    }
+
+    @DisplayName("templates refuse changes, so a test cannot alter them for the others")
+    @Test
+    void templatesAreReadOnly() {
+        assertThatThrownBy(() -> BASIC_HERO.setCity("Changed")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> DEFAULT_USER.setFirstName("Changed")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(Fixtures.hero(BASIC_HERO)).isEqualTo(BASIC_HERO);
+    }
+}
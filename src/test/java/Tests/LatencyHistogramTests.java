@@ -0,0 +1,58 @@
+package Tests;
+
+import Load.LatencyHistogram;
+import Load.LoadPhase;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTests {
+
+    @DisplayName("percentiles stay within three significant digits of the exact value")
+    @Test
+    void percentilesKeepThreeSignificantDigits() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(100_000);
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            double exact = TimeUnit.MICROSECONDS.toNanos((long) (percentile * 1_000));
+            assertThat((double) histogram.valueAtPercentileNanos(percentile))
+                    .as("p" + percentile).isCloseTo(exact, within(exact * 0.001));
+        }
+        assertThat(histogram.valueAtPercentileNanos(100)).isEqualTo(histogram.getMaxNanos())
+                .isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @DisplayName("a single outlier shows up in the tail but not in the median")
+    @Test
+    void outlierOnlyMovesTheTail() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 999; i++) {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(2));
+        }
+        histogram.recordNanos(TimeUnit.SECONDS.toNanos(3));
+
+        assertThat(histogram.valueAtPercentileNanos(50)).isCloseTo(TimeUnit.MILLISECONDS.toNanos(2), within(2_000L));
+        assertThat(histogram.valueAtPercentileNanos(99.95)).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+    }
+
+    @DisplayName("ramps schedule the area under the rate line")
+    @Test
+    void rampSchedulesAreaUnderRateLine() {
+        LoadPhase rampUp = LoadPhase.rampUp(Duration.ofSeconds(10), 100);
+
+        long arrivals = 0;
+        while (rampUp.offsetOfArrival(arrivals + 1) != null) {
+            arrivals++;
+        }
+
+        assertThat(arrivals).isEqualTo(500);
+    }
+}
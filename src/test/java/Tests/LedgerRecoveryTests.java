@@ -0,0 +1,80 @@
+package Tests;
+
+import Cleanup.LedgerEntry;
+import Cleanup.LedgerJournal;
+import Cleanup.LedgerRecovery;
+import Cleanup.ResourceType;
+import Controllers.FluentSuperheroController;
+import Controllers.UserController;
+import Models.Superhero;
+import Models.User;
+import Stubs.PetstoreStub;
+import Stubs.SuperheroStub;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static Constants.Constants.SUPERHERO_ENDPOINT;
+import static Constants.Constants.USER_ENDPOINT;
+import static TestData.SuperheroTestData.BASIC_HERO;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LedgerRecoveryTests {
+
+    private final FluentSuperheroController fluentSuperheroController =
+            new FluentSuperheroController(SuperheroStub.get().getBaseUrl());
+    private final UserController userController = new UserController(PetstoreStub.get().getBaseUrl());
+
+    @DisplayName("controllers forget resources once they are deleted")
+    @Tags({@Tag("cleanup"), @Tag("API")})
+    @Test
+    void ledgerTracksCreatedAndDeletedResources() {
+        long heroId = fluentSuperheroController.createHero(BASIC_HERO).statusCodeIs(200)
+                .getSuperheroFromResponse().getId();
+        String username = "ledger_user_" + heroId;
+        userController.createUser(userNamed(username));
+
+        assertThat(fluentSuperheroController.getCreatedHeroIds()).containsExactly(heroId);
+        assertThat(userController.getCreatedUsernames()).containsExactly(username);
+
+        assertThat(fluentSuperheroController.deleteCreatedHeroes().isClean()).isTrue();
+        assertThat(userController.deleteCreatedUsers().isClean()).isTrue();
+
+        assertThat(fluentSuperheroController.getCreatedHeroIds()).isEmpty();
+        assertThat(userController.getCreatedUsernames()).isEmpty();
+    }
+
+    @DisplayName("recovery deletes what a crashed run left in its journal")
+    @Tags({@Tag("cleanup"), @Tag("API")})
+    @Test
+    void recoveryDeletesOutstandingEntries(@TempDir Path ledgerDir) throws Exception {
+        // created behind the controllers' backs, as by a run that no longer exists
+        Superhero leftoverHero = given().baseUri(SuperheroStub.get().getBaseUrl()).contentType(ContentType.JSON)
+                .body(BASIC_HERO).post(SUPERHERO_ENDPOINT).as(Superhero.class);
+        String leftoverUser = "crashed_run_user_" + leftoverHero.getId();
+        given().baseUri(PetstoreStub.get().getBaseUrl()).basePath("v2/").contentType(ContentType.JSON)
+                .body(userNamed(leftoverUser)).post(USER_ENDPOINT).then().statusCode(200);
+
+        Path journal = ledgerDir.resolve("run-crashed.log");
+        LedgerJournal.write(journal, Set.of(
+                new LedgerEntry(ResourceType.HERO, SuperheroStub.get().getBaseUrl(), String.valueOf(leftoverHero.getId())),
+                new LedgerEntry(ResourceType.USER, PetstoreStub.get().getBaseUrl(), leftoverUser)));
+
+        Map<Path, Set<LedgerEntry>> leftovers = LedgerRecovery.recover(ledgerDir, baseUrl -> true);
+
+        assertThat(leftovers).isEmpty();
+        assertThat(Files.exists(journal)).isFalse();
+        fluentSuperheroController.getHero(leftoverHero.getId()).statusCodeIs(400);
+        assertThat(userController.waitUntilUserIsDeleted(leftoverUser).statusCode()).isEqualTo(404);
+    }
+
+    private static User userNamed(String username) {
+        return new User(0, username, "Ledger", "User", username + "@example.com", "password", "+100", 0);
+    }
+}
@@ -1,60 +1,67 @@
 package Tests;
 
+import Controllers.DownloadController;
+import Controllers.DownloadResult;
+import Controllers.FluentSuperheroController;
+import Controllers.UploadController;
+import Controllers.UploadResult;
+import Controllers.UserController;
+import Load.LoadReport;
+import Load.OpenModelLoadEngine;
+import Load.UploadFixtures;
+import Load.UploadHarness;
+import Load.UploadReport;
+import Models.BasicPetStoreResponse;
+import Stubs.FileStub;
+import TestData.Fixtures;
+import io.qameta.allure.Allure;
 import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
+import static Constants.Constants.BASE_URL;
+import static Constants.Constants.PET_ENDPOINT;
+import static Load.LoadPhase.*;
+import static TestData.SuperheroTestData.BASIC_HERO;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 public class LoadTests {
 
+    @TempDir
+    Path workDirectory;
+
     @Test
-    void testDownloadHttpClient() {
-        String endpoint = "https://alfabank.servicecdn.ru/site-upload/67/dd/356/zayavlenie-IZK.pdf";
-        String fileName = "downloaded.pdf";
+    void testDownloadHttpClient() throws Exception {
+        long size = 3 * 1024 * 1024 + 17;
+        String url = FileStub.get().publish("zayavlenie-IZK.pdf", size, "application/pdf");
+        Path target = workDirectory.resolve("downloaded.pdf");
 
-        Response response =
-                given().
-                        when().
-                        get(endpoint).
-                        then().
-                        contentType("application/pdf").
-                        statusCode(200).
-                        extract().response();
-        savePdf(response, fileName);
-
-        File downloadedFile = new File(fileName);
-        assertThat(downloadedFile).exists();
-    }
+        DownloadResult result = new DownloadController().download(url, target);
 
-    private void savePdf(Response response, String fileName) {
-        if (response != null) {
-
-            try (InputStream inputStream = response.getBody().asInputStream()) {
-                OutputStream outputStream = new FileOutputStream(fileName);
-
-                int bytesRead;
-                byte[] buffer = new byte[4096];
-                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                    outputStream.write(buffer, 0, bytesRead);
-                }
-                inputStream.close();
-                outputStream.close();
-                System.out.println("PDF успешно сохранен в файл: " + fileName);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
+        assertThat(result.getStatusCode()).isEqualTo(200);
+        assertThat(result.getContentType()).isEqualTo("application/pdf");
+        assertThat(result.getBytes()).isEqualTo(size);
+        assertThat(result.getSha256()).isEqualTo(FileStub.sha256Of(size));
+        assertThat(Files.size(target)).isEqualTo(size);
+        assertThat(result.getMegabytesPerSecond()).isPositive();
+        Allure.addAttachment("Download " + target.getFileName(), "text/plain",
+                String.format("%d bytes at %.1f MB/s, sha256 %s",
+                        result.getBytes(), result.getMegabytesPerSecond(), result.getSha256()), ".txt");
     }
 
     @Test
     void apiUploadTest() {
-        String apiUrl = "https://petstore.swagger.io/v2/pet/1/uploadImage";
+        String apiUrl = BASE_URL + "v2/" + PET_ENDPOINT + "1/uploadImage";
         File file = new File("src/main/resources/cat.png");
         Response response =
                 given()
@@ -68,5 +75,87 @@ public class LoadTests {
                         .extract()
                         .response();
         System.out.println("Response: " + response.asString());
+        assertThat(response.as(BasicPetStoreResponse.class).getMessage()).endsWith("cat.png, " + file.length() + " bytes");
+    }
+
+    @DisplayName("a streamed multipart upload arrives with its exact size")
+    @Test
+    void streamedUploadKeepsFileSize() throws Exception {
+        Path file = UploadFixtures.generate(workDirectory, 5L * 1024 * 1024 + 7);
+
+        UploadResult result = new UploadController().uploadImage(42, file, "application/octet-stream");
+
+        assertThat(result.getStatusCode()).isEqualTo(200);
+        assertThat(result.getMessage()).endsWith(file.getFileName() + ", " + Files.size(file) + " bytes");
+    }
+
+    @DisplayName("concurrent image uploads by size class")
+    @Tag("load")
+    @Test
+    void uploadThroughputBySizeClass() throws Exception {
+        List<Long> sizes = Arrays.stream(System.getProperty("load.uploadSizes", "1KB,1MB,16MB,64MB").split(","))
+                .map(UploadFixtures::parseSize)
+                .toList();
+        UploadController uploads = new UploadController();
+
+        UploadReport report = UploadHarness.forSizes(sizes, Path.of("build/upload-fixtures"))
+                .uploadsPerSize(Integer.getInteger("load.uploadsPerSize", 32))
+                .maxInFlight(Integer.getInteger("load.uploadConcurrency", 8))
+                .petIds(1, 100)
+                .run((petId, file) -> uploads.uploadImage(petId, file, "application/octet-stream").getStatusCode());
+
+        report.writeTo(Path.of("build/reports/load/upload-throughput.txt"));
+        System.out.print(report.format());
+        assertThat(report.getErrors()).isZero();
+    }
+
+    @DisplayName("superhero and user operations at a constant arrival rate")
+    @Tag("load")
+    @Test
+    void superheroServiceAtConstantArrivalRate() throws Exception {
+        double rate = Double.parseDouble(System.getProperty("load.rate", "20"));
+        Duration rampUp = Duration.ofSeconds(Long.getLong("load.rampUpSeconds", 5));
+        Duration steady = Duration.ofSeconds(Long.getLong("load.steadySeconds", 20));
+        Duration rampDown = Duration.ofSeconds(Long.getLong("load.rampDownSeconds", 5));
+
+        FluentSuperheroController heroes = new FluentSuperheroController();
+        UserController users = new UserController();
+        long heroId = heroes.createHero(Fixtures.hero(BASIC_HERO)).statusCodeIs(200).getSuperheroFromResponse().getId();
+
+        LoadReport report;
+        try {
+            report = OpenModelLoadEngine.withPhases(rampUp(rampUp, rate), steady(steady, rate), rampDown(rampDown, rate))
+                    .operation("get hero", 6, () -> heroes.getHero(heroId).statusCodeIs(200))
+                    .operation("create hero", 2, () -> heroes.createHero(Fixtures.hero(BASIC_HERO)).statusCodeIs(200))
+                    .operation("update hero", 1, () -> heroes.updateHero(Fixtures.hero(BASIC_HERO), heroId).statusCodeIs(200))
+                    .operation("create user", 1, () -> {
+                        assertThat(users.createUser(Fixtures.user()).statusCode()).isEqualTo(200);
+                    })
+                    .run();
+        } finally {
+            heroes.deleteCreatedHeroes();
+            users.deleteCreatedUsers();
+        }
+
+        report.writeTo(Path.of("build/reports/load/superhero-load.txt"));
+        System.out.print(report.format());
+        assertThat(report.isDrainTimedOut()).as("calls were still running after the drain timeout").isFalse();
+        assertThat(report.getErrors()).isZero();
+    }
+
+    @DisplayName("calls still running when the drain times out are reported as errors, not as completed")
+    @Test
+    void drainTimeoutAbandonsSlowCalls() throws Exception {
+        LoadReport report = OpenModelLoadEngine.withPhases(steady(Duration.ofMillis(500), 10))
+                .operation("never answers", 1, () -> Thread.sleep(Duration.ofMinutes(1)))
+                .drainTimeout(Duration.ofMillis(200))
+                .run();
+
+        LoadReport.Row row = report.getRows().get(0);
+        assertThat(report.isDrainTimedOut()).isTrue();
+        assertThat(row.getScheduled()).isPositive();
+        assertThat(row.getCompleted()).isZero();
+        assertThat(row.getErrors()).isEqualTo(row.getScheduled());
+        assertThat(row.getFirstError()).contains("abandoned");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package Tests;
+
+import Waits.BackoffPollInterval;
+import Waits.ReadinessWait;
+import Waits.WaitStats;
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReadinessWaitTests {
+
+    private static final Duration INITIAL = Duration.ofMillis(100);
+    private static final Duration MAX = Duration.ofMillis(1000);
+
+    @DisplayName("poll intervals stay within 25% jitter of the doubling base")
+    @Test
+    void intervalsGrowWithinJitterBounds() {
+        BackoffPollInterval interval = new BackoffPollInterval(INITIAL, MAX, 2.0);
+        for (int poll = 1; poll <= 4; poll++) {
+            long base = INITIAL.toMillis() << (poll - 1);
+            for (int sample = 0; sample < 1_000; sample++) {
+                assertThat(interval.next(poll, Duration.ZERO).toMillis())
+                        .as("poll %d", poll)
+                        .isBetween(Math.round(base * 0.75), Math.round(base * 1.25));
+            }
+        }
+    }
+
+    @DisplayName("poll intervals stop growing at the cap")
+    @Test
+    void intervalsAreCapped() {
+        BackoffPollInterval interval = new BackoffPollInterval(INITIAL, MAX, 2.0);
+        for (int sample = 0; sample < 1_000; sample++) {
+            assertThat(interval.next(30, Duration.ZERO).toMillis())
+                    .isBetween(Math.round(MAX.toMillis() * 0.75), Math.round(MAX.toMillis() * 1.25));
+        }
+    }
+
+    @DisplayName("a met condition returns the probe's value and reports its probes")
+    @Test
+    void returnsFirstMatchingProbe() {
+        AtomicInteger calls = new AtomicInteger();
+
+        int result = ReadinessWait.forOperation(uniqueOperation())
+                .intervals(Duration.ofMillis(1), Duration.ofMillis(5), 2.0)
+                .until(calls::incrementAndGet, value -> value == 3);
+
+        WaitStats stats = ReadinessWait.lastStats();
+        assertThat(result).isEqualTo(3);
+        assertThat(stats.getProbes()).isEqualTo(3);
+        assertThat(stats.isConverged()).isTrue();
+    }
+
+    @DisplayName("a condition that never holds times out and is reported as not converged")
+    @Test
+    void timesOutWhenConditionNeverHolds() {
+        ReadinessWait wait = ReadinessWait.forOperation(uniqueOperation())
+                .atMost(Duration.ofMillis(200))
+                .intervals(Duration.ofMillis(10), Duration.ofMillis(20), 2.0);
+
+        assertThatThrownBy(() -> wait.until(() -> false, ready -> ready)).isInstanceOf(ConditionTimeoutException.class);
+        assertThat(ReadinessWait.lastStats().isConverged()).isFalse();
+        assertThat(ReadinessWait.lastStats().getProbes()).isPositive();
+    }
+
+    @DisplayName("an operation seen before is first probed after about 3/4 of its usual convergence time")
+    @Test
+    void firstProbeIsDelayedByLearnedConvergence() {
+        String operation = uniqueOperation();
+        Duration convergence = Duration.ofMillis(400);
+
+        long unknownStart = System.nanoTime();
+        AtomicLong firstProbeNanos = new AtomicLong();
+        ReadinessWait.forOperation(operation).until(() -> {
+            firstProbeNanos.compareAndSet(0, System.nanoTime() - unknownStart);
+            return System.nanoTime() - unknownStart;
+        }, elapsed -> elapsed >= convergence.toNanos());
+        assertThat(Duration.ofNanos(firstProbeNanos.get())).as("first probe of an unknown operation")
+                .isLessThan(Duration.ofMillis(100));
+
+        long knownStart = System.nanoTime();
+        firstProbeNanos.set(0);
+        ReadinessWait.forOperation(operation).until(() -> {
+            firstProbeNanos.compareAndSet(0, System.nanoTime() - knownStart);
+            return true;
+        }, ready -> ready);
+        assertThat(Duration.ofNanos(firstProbeNanos.get())).as("first probe of a learned operation")
+                .isGreaterThanOrEqualTo(convergence.multipliedBy(3).dividedBy(4));
+    }
+
+    // the learned delays are kept per operation for the whole JVM
+    private static String uniqueOperation() {
+        return "readiness-test-" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,40 @@
+package Tests;
+
+import Benchmarking.SuiteBenchmark;
+import Reporting.BenchmarkReport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Tag("benchmark")
+public class SuiteBenchmarks {
+
+    // e.g. -Dbenchmark.include=POOLED_CONNECTIONS,POOL_WARM_UP; every benchmark runs when unset
+    private static final Set<String> INCLUDED = Arrays.stream(System.getProperty("benchmark.include", "").split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+
+    @TempDir
+    Path workDirectory;
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(SuiteBenchmark.class)
+    void benchmark(SuiteBenchmark benchmark) throws Exception {
+        assumeTrue(INCLUDED.isEmpty() || INCLUDED.contains(benchmark.name()), "not in benchmark.include");
+        BenchmarkReport report = new BenchmarkReport(benchmark.name());
+        try {
+            benchmark.run(report, workDirectory);
+        } finally {
+            report.attach();
+        }
+    }
+}
@@ -1,52 +1,72 @@
 package Tests;
 
+import Cleanup.BulkDeleteSummary;
 import Controllers.FluentSuperheroController;
 import Models.GenderForSuperhero;
 import Models.Superhero;
 import Models.SuperheroError;
+import TestData.Fixtures;
+import Timing.ConnectionPool;
+import Timing.RequestTimings;
 import io.qameta.allure.Flaky;
-import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.*;
 
+import java.time.Duration;
 import java.util.List;
 
 import static Constants.Constants.BASE_SUPERHERO_URL;
+import static Constants.Constants.SUPERHERO_LATENCY_BUDGET;
 import static TestData.SuperheroTestData.*;
-import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class SuperheroTests {
 
     FluentSuperheroController fluentSuperheroController = new FluentSuperheroController();
 
-    @BeforeEach
     @AfterEach
     void clearTestData(){
-        RequestSpecification spec = fluentSuperheroController.getRequestSpecification();
-
-        Superhero[] allHeroes = given(spec)
-                .when().get(BASE_SUPERHERO_URL + "superheroes")
-                .then().statusCode(200)
-                .extract().as(Superhero[].class);
-
-        for (Superhero hero : allHeroes) {
-            given(spec).when().delete("superheroes/" + hero.getId()).then().statusCode(200);
-        }
+        BulkDeleteSummary<Long> summary = fluentSuperheroController.deleteCreatedHeroes();
+        assertThat(summary.getFailures()).as("heroes left behind by cleanup").isEmpty();
     }
 
     @DisplayName("create a hero and check status code")
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
     void createHero(){
-        fluentSuperheroController.createHero(BASIC_HERO)
+        fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO))
                 .statusCodeIs(200)
+                .respondedWithin(SUPERHERO_LATENCY_BUDGET)
                 .getSuperheroFromResponse();
     }
 
+    @DisplayName("create heroes and check that connect time is only spent on a new connection")
+    @Tags({@Tag("smoke"), @Tag("API")})
+    @Test
+    void createHeroAndCheckTimings(){
+        ConnectionPool connectionPool = new ConnectionPool(1, 1, ConnectionPool.DEFAULT_IDLE_TIMEOUT);
+        FluentSuperheroController controller = new FluentSuperheroController(BASE_SUPERHERO_URL, connectionPool);
+        try {
+            RequestTimings fresh = controller.createHero(Fixtures.hero(BASIC_HERO)).statusCodeIs(200).getTimings();
+            RequestTimings reused = controller.createHero(Fixtures.hero(BASIC_HERO)).statusCodeIs(200).getTimings();
+
+            assertThat(fresh.getConnect()).as("connect on a new connection").isPositive();
+            assertThat(reused.getConnect()).as("connect on a reused connection").isZero();
+            for (RequestTimings timings : List.of(fresh, reused)) {
+                assertThat(timings.getRequestWrite()).isGreaterThanOrEqualTo(Duration.ZERO);
+                assertThat(timings.getTimeToFirstByte()).isPositive();
+                assertThat(timings.getBodyRead()).isGreaterThanOrEqualTo(Duration.ZERO);
+            }
+        } finally {
+            controller.deleteCreatedHeroes();
+            connectionPool.shutdown();
+        }
+    }
+
     @DisplayName("create a hero, check status code and response body")
-    @Tags({@Tag("smoke"), @Tag("API"), @Tag("Will fail"), @Tag("Reason: phone becomes null after creation")})
+    @Tags({@Tag("smoke"), @Tag("API"), @Tag("known-bug"), @Tag("Will fail"), @Tag("Reason: phone becomes null after creation")})
     @Test
     void createHeroAndCheckBody(){
-        fluentSuperheroController.createHero(BASIC_HERO)
+        fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO))
                 .statusCodeIs(200)
                 .compareWithHero(BASIC_HERO);
     }
@@ -55,7 +75,7 @@ public class SuperheroTests {
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
     void createHeroWithoutPhoneAndCheckBody(){
-        fluentSuperheroController.createHero(HERO_WITHOUT_PHONE)
+        fluentSuperheroController.createHero(Fixtures.hero(HERO_WITHOUT_PHONE))
                 .statusCodeIs(200)
                 .compareWithHero(HERO_WITHOUT_PHONE);
     }
@@ -64,14 +84,14 @@ public class SuperheroTests {
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
     void createHeroWithInvalidPathAndCheckCode(){
-        fluentSuperheroController.createHeroWithInvalidPath(BASIC_HERO).statusCodeIs(404);
+        fluentSuperheroController.createHeroWithInvalidPath(Fixtures.hero(BASIC_HERO)).statusCodeIs(404);
     }
 
     @DisplayName("try to create a hero, check status code and response body")
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
     void createHeroWithInvalidPathAndCheckCodeAndBody(){
-        fluentSuperheroController.createHeroWithInvalidPath(BASIC_HERO)
+        fluentSuperheroController.createHeroWithInvalidPath(Fixtures.hero(BASIC_HERO))
                 .statusCodeIs(404)
                 .compareWithErrorBody(RESPONSE_WITH_NO_AVAILABLE_MESSAGE);
     }
@@ -84,7 +104,7 @@ public class SuperheroTests {
         String expectedMessagePart = "JSON parse error";
         String expectedError = "Bad Request";
 
-        fluentSuperheroController.createHero(HERO_WITH_INVALID_DATE)
+        fluentSuperheroController.createHero(Fixtures.hero(HERO_WITH_INVALID_DATE))
                 .statusCodeIs(400)
                 .jsonValueCompare("status", expectedStatusValue)
                 .jsonValueCompare("error", expectedError)
@@ -100,7 +120,7 @@ public class SuperheroTests {
         String expectedMessagePart = "could not execute statement";
         String expectedError = "Internal Server Error";
 
-        fluentSuperheroController.createHero(HERO_WITHOUT_SKILL)
+        fluentSuperheroController.createHero(Fixtures.hero(HERO_WITHOUT_SKILL))
                 .statusCodeIs(500)
                 .jsonValueCompare("status", expectedStatusValue)
                 .jsonValueCompare("error", expectedError)
@@ -113,13 +133,12 @@ public class SuperheroTests {
             @Tag("Reason: get-response sometimes finds hero with wrong id (actualId-1 or model to create without id)")})
     @Flaky
     @Test
-    void createAndGetHeroNoPhone() throws InterruptedException {
-        Superhero createHeroResponse = fluentSuperheroController.createHero(HERO_WITHOUT_PHONE)
+    void createAndGetHeroNoPhone() {
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(HERO_WITHOUT_PHONE))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
-        Thread.sleep(5000);
-        fluentSuperheroController.getHero(createHeroResponse.getId()).statusCodeIs(200);
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId()).statusCodeIs(200);
     }
 
     @DisplayName("create a hero without phone, get hero, check status code and response body")
@@ -127,13 +146,12 @@ public class SuperheroTests {
             @Tag("Reason: get-response sometimes finds hero with wrong id (actualId-1 or model to create without id)")})
     @Flaky
     @Test
-    void createGetHeroNoPhoneAndCheckCodeAndBody() throws InterruptedException {
-        Superhero createHeroResponse = fluentSuperheroController.createHero(HERO_WITHOUT_PHONE)
+    void createGetHeroNoPhoneAndCheckCodeAndBody() {
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(HERO_WITHOUT_PHONE))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
-        Thread.sleep(3000);
-        fluentSuperheroController.getHero(createHeroResponse.getId())
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId())
                 .statusCodeIs(200)
                 .jsonValueCompare("birthDate", HERO_WITHOUT_PHONE.getBirthDate())
                 .jsonValueCompare("city", HERO_WITHOUT_PHONE.getCity())
@@ -145,18 +163,17 @@ public class SuperheroTests {
     }
 
     @DisplayName("create a hero, get hero, check status code and response body")
-    @Tags({@Tag("smoke"), @Tag("API"), @Tag("will fail"), @Tag("Reason: phone becomes null after creation"),
+    @Tags({@Tag("smoke"), @Tag("API"), @Tag("known-bug"), @Tag("will fail"), @Tag("Reason: phone becomes null after creation"),
             @Tag("unstable"),
             @Tag("Reason: get-response sometimes finds hero with different id(actualId-1 or model to create without id)")})
     @Flaky
     @Test
-    void createGetHeroAndCheckCodeAndBody() throws InterruptedException {
-        Superhero createHeroResponse = fluentSuperheroController.createHero(BASIC_HERO)
+    void createGetHeroAndCheckCodeAndBody() {
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
-        Thread.sleep(3000);
-        fluentSuperheroController.getHero(createHeroResponse.getId())
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId())
                 .statusCodeIs(200)
                 .jsonValueCompare("birthDate", BASIC_HERO.getBirthDate())
                 .jsonValueCompare("city", BASIC_HERO.getCity())
@@ -172,13 +189,12 @@ public class SuperheroTests {
             @Tag("Reason: get-response sometimes finds hero with different id(actualId-1 or model to create without id)")})
     @Flaky
     @Test
-    void createAndGetHero() throws InterruptedException {
-        Superhero createHeroResponse = fluentSuperheroController.createHero(BASIC_HERO)
+    void createAndGetHero() {
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
-        Thread.sleep(5000);
-        fluentSuperheroController.getHero(createHeroResponse.getId()).statusCodeIs(200);
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId()).statusCodeIs(200);
     }
 
     @DisplayName("try to get hero with non used ID")
@@ -212,7 +228,7 @@ public class SuperheroTests {
         String expectedError = "Not Found";
         String expectedMessage = "No message available";
 
-        Superhero createdHeroResponse = fluentSuperheroController.createHero(BASIC_HERO)
+        Superhero createdHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
@@ -227,7 +243,8 @@ public class SuperheroTests {
     @Test
     void getAllHeroes() {
         fluentSuperheroController.getAllHeroes()
-                .statusCodeIs(200);
+                .statusCodeIs(200)
+                .respondedWithin(SUPERHERO_LATENCY_BUDGET);
     }
 
     @DisplayName("try to get all heroes with invalid path and check ")
@@ -250,14 +267,30 @@ public class SuperheroTests {
     @Test
     void getAllHeroesAndCheck() {
         Superhero ironMan =
-                fluentSuperheroController.createHero(HERO_WITH_ALL_FIELDS).statusCodeIs(200).getSuperheroFromResponse();
+                fluentSuperheroController.createHero(Fixtures.hero(HERO_WITH_ALL_FIELDS)).statusCodeIs(200).getSuperheroFromResponse();
         Superhero captainAmerica =
-                fluentSuperheroController.createHero(BASIC_HERO).statusCodeIs(200).getSuperheroFromResponse();
+                fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO)).statusCodeIs(200).getSuperheroFromResponse();
         List<Superhero> expectedHeroes = List.of(ironMan, captainAmerica);
 
-        fluentSuperheroController.getAllHeroes()
+        fluentSuperheroController.streamAllHeroes()
                 .statusCodeIs(200)
-                .getAllHeroesAndCompareBodies(expectedHeroes);
+                .onlyHeroesWithIds(fluentSuperheroController.getCreatedHeroIds())
+                .compareInOrder(expectedHeroes.iterator());
+    }
+
+    @DisplayName("get all heroes and compare them with created heroes in any order")
+    @Tags({@Tag("smoke"), @Tag("API")})
+    @Test
+    void getAllHeroesInAnyOrder() {
+        Superhero ironMan =
+                fluentSuperheroController.createHero(Fixtures.hero(HERO_WITH_ALL_FIELDS)).statusCodeIs(200).getSuperheroFromResponse();
+        Superhero captainAmerica =
+                fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO)).statusCodeIs(200).getSuperheroFromResponse();
+
+        fluentSuperheroController.streamAllHeroes()
+                .statusCodeIs(200)
+                .onlyHeroesWithIds(fluentSuperheroController.getCreatedHeroIds())
+                .compareIgnoringOrder(List.of(captainAmerica, ironMan));
     }
 
     @DisplayName("create a hero, update hero and check status code")
@@ -265,7 +298,7 @@ public class SuperheroTests {
             @Tag("Reason: update sometimes doesn't work because it can't find a hero with suitable id")})
     @Flaky
     @Test
-    void createAndUpdateHero() throws InterruptedException {
+    void createAndUpdateHero() {
         Superhero heroToUpdate = Superhero.builder()
                 .birthDate("1756-05-11")
                 .city("Boston")
@@ -275,11 +308,11 @@ public class SuperheroTests {
                 .phone("987891")
                 .build();
 
-        Superhero createHeroResponse = fluentSuperheroController.createHero(HERO_FOR_UPDATE)
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(HERO_FOR_UPDATE))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
-        Thread.sleep(5000);
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId());
         fluentSuperheroController.updateHero(heroToUpdate, createHeroResponse.getId()).statusCodeIs(200);
     }
 
@@ -289,7 +322,7 @@ public class SuperheroTests {
             @Tag("Reason: get-response sometimes finds hero with different id(actualId-1 or model to create without id)")})
     @Flaky
     @Test
-    void createUpdateHeroAndCheckChanges() throws InterruptedException {
+    void createUpdateHeroAndCheckChanges() {
         Superhero heroToUpdate = Superhero.builder()
                 .birthDate("1975-08-18")
                 .city("New York")
@@ -299,16 +332,15 @@ public class SuperheroTests {
                 .mainSkill("Technology")
                 .build();
 
-        Superhero createHeroResponse = fluentSuperheroController.createHero(HERO_WITH_ALL_FIELDS)
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(HERO_WITH_ALL_FIELDS))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
-        Thread.sleep(5000);
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId());
         fluentSuperheroController.updateHero(heroToUpdate, createHeroResponse.getId())
                 .statusCodeIs(200);
 
-        Thread.sleep(5000);
-        fluentSuperheroController.getHero(createHeroResponse.getId())
+        fluentSuperheroController.awaitHeroFields(createHeroResponse.getId(), heroToUpdate, "fullName", "mainSkill")
                 .statusCodeIs(200)
                 .jsonValueCompare("fullName", heroToUpdate.getFullName())
                 .jsonValueCompare("mainSkill", heroToUpdate.getMainSkill());
@@ -317,7 +349,7 @@ public class SuperheroTests {
     @DisplayName("create a hero, try to update hero with non used id and check status code")
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
-    void createAndUpdateHeroWithNonUsedID() throws InterruptedException {
+    void createAndUpdateHeroWithNonUsedID() {
         Superhero heroToUpdate = Superhero.builder()
                 .birthDate("1756-05-11")
                 .city("Boston")
@@ -329,9 +361,11 @@ public class SuperheroTests {
         SuperheroError notFoundResponse =
                 new SuperheroError(String.format("Superhero with id '%d' was not found", NON_USED_ID), "NOT_FOUND");
 
-       fluentSuperheroController.createHero(HERO_FOR_UPDATE).statusCodeIs(200);
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(HERO_FOR_UPDATE))
+                .statusCodeIs(200)
+                .getSuperheroFromResponse();
 
-        Thread.sleep(5000);
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId());
         fluentSuperheroController.updateHero(heroToUpdate, NON_USED_ID)
                 .statusCodeIs(400)
                 .compareWithErrorBody(notFoundResponse);
@@ -340,7 +374,7 @@ public class SuperheroTests {
     @DisplayName("create a hero, try to update hero with invalid id and check status code")
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
-    void createAndUpdateHeroWithInvalidID() throws InterruptedException {
+    void createAndUpdateHeroWithInvalidID() {
         Superhero heroToUpdate = Superhero.builder()
                 .birthDate("1756-05-11")
                 .city("Boston")
@@ -352,9 +386,11 @@ public class SuperheroTests {
         SuperheroError notFoundResponse =
                 new SuperheroError(String.format("Superhero with id '%d' was not found", INVALID_ID), "NOT_FOUND");
 
-        fluentSuperheroController.createHero(HERO_FOR_UPDATE).statusCodeIs(200);
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(HERO_FOR_UPDATE))
+                .statusCodeIs(200)
+                .getSuperheroFromResponse();
 
-        Thread.sleep(5000);
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId());
         fluentSuperheroController.updateHero(heroToUpdate, INVALID_ID)
                 .statusCodeIs(400)
                 .compareWithErrorBody(notFoundResponse);
@@ -365,17 +401,17 @@ public class SuperheroTests {
             @Tag("Reason: update sometimes doesn't work because it can't find a hero with suitable id")})
     @Flaky
     @Test
-    void createAndUpdateHeroWithMissingField() throws InterruptedException {
+    void createAndUpdateHeroWithMissingField() {
         String expectedStatusValue = "500";
         String expectedMessagePart = "could not execute statement";
         String expectedError = "Internal Server Error";
 
-        Superhero createdHerResponse = fluentSuperheroController.createHero(HERO_FOR_UPDATE)
+        Superhero createdHerResponse = fluentSuperheroController.createHero(Fixtures.hero(HERO_FOR_UPDATE))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
-        Thread.sleep(5000);
-        fluentSuperheroController.updateHero(HERO_WITHOUT_SKILL, createdHerResponse.getId())
+        fluentSuperheroController.awaitHeroVisible(createdHerResponse.getId());
+        fluentSuperheroController.updateHero(Fixtures.hero(HERO_WITHOUT_SKILL), createdHerResponse.getId())
                 .statusCodeIs(500)
                 .jsonValueCompare("error", expectedError)
                 .jsonValueCompare("status", expectedStatusValue)
@@ -385,7 +421,7 @@ public class SuperheroTests {
     @DisplayName("create a hero, try to update hero with invalid path and check status code")
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
-    void createAndUpdateHeroWithInvalidPath() throws InterruptedException {
+    void createAndUpdateHeroWithInvalidPath() {
         String expectedError = "Not Found";
         String expectedMessage = "No message available";
         Superhero heroToUpdate = Superhero.builder()
@@ -397,11 +433,11 @@ public class SuperheroTests {
                 .phone("987891")
                 .build();
 
-        Superhero createHeroResponse = fluentSuperheroController.createHero(HERO_FOR_UPDATE)
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(HERO_FOR_UPDATE))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
-        Thread.sleep(5000);
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId());
         fluentSuperheroController.updateHeroWithInvalidPath(heroToUpdate, createHeroResponse.getId())
                 .statusCodeIs(404)
                 .jsonValueCompare("error", expectedError)
@@ -411,12 +447,12 @@ public class SuperheroTests {
     @DisplayName("create a hero, delete it and check status code")
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
-    void createAndDeleteHero() throws InterruptedException {
-        Superhero createHeroResponse = fluentSuperheroController.createHero(BASIC_HERO)
+    void createAndDeleteHero() {
+        Superhero createHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
-        Thread.sleep(5000);
+        fluentSuperheroController.awaitHeroVisible(createHeroResponse.getId());
         fluentSuperheroController.deleteHero(createHeroResponse.getId())
                 .statusCodeIs(200);
     }
@@ -426,8 +462,8 @@ public class SuperheroTests {
             @Tag("Reason: get-response sometimes finds hero with wrong id (actualId-1 or create model without id)")})
     @Flaky
     @Test
-    void createDeleteHeroAndGetDeleted() throws InterruptedException {
-        Superhero createdHeroResponse = fluentSuperheroController.createHero(BASIC_HERO)
+    void createDeleteHeroAndGetDeleted() {
+        Superhero createdHeroResponse = fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
@@ -435,21 +471,20 @@ public class SuperheroTests {
                 new SuperheroError(String.format
                         ("Superhero with id '%d' was not found", createdHeroResponse.getId()), "NOT_FOUND");
 
-        Thread.sleep(5000);
+        fluentSuperheroController.awaitHeroVisible(createdHeroResponse.getId());
         fluentSuperheroController.deleteHero(createdHeroResponse.getId())
                 .statusCodeIs(200);
 
-        Thread.sleep(5000);
-        fluentSuperheroController.getHero(createdHeroResponse.getId())
+        fluentSuperheroController.awaitHeroGone(createdHeroResponse.getId())
                 .statusCodeIs(400)
                 .compareWithErrorBody(errorResponse);
     }
 
     @DisplayName("try to delete hero with non used ID")
-    @Tags({@Tag("smoke"), @Tag("API"), @Tag("will fail"),
+    @Tags({@Tag("smoke"), @Tag("API"), @Tag("known-bug"), @Tag("will fail"),
             @Tag("Reason: delete works even if there is no hero with this id")})
     @Test
-    void createAndDeleteHeroWithNonUsedID() throws InterruptedException {
+    void createAndDeleteHeroWithNonUsedID() {
         SuperheroError expectedGerResponse =
                 new SuperheroError(String.format("Superhero with id '%d' was not found", NON_USED_ID), "NOT_FOUND");
 
@@ -462,10 +497,10 @@ public class SuperheroTests {
     }
 
     @DisplayName("try to delete hero with invalid ID")
-    @Tags({@Tag("smoke"), @Tag("API"), @Tag("will fail"),
+    @Tags({@Tag("smoke"), @Tag("API"), @Tag("known-bug"), @Tag("will fail"),
             @Tag("Reason: delete works even if there is no hero with this id")})
     @Test
-    void createAndDeleteHeroWithInvalidID() throws InterruptedException {
+    void createAndDeleteHeroWithInvalidID() {
         SuperheroError expectedGerResponse =
                 new SuperheroError(String.format("Superhero with id '%d' was not found", INVALID_ID), "NOT_FOUND");
 
@@ -480,11 +515,11 @@ public class SuperheroTests {
     @DisplayName("try to delete hero with invalid path")
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
-    void createAndDeleteHeroWithInvalidPath() throws InterruptedException {
+    void createAndDeleteHeroWithInvalidPath() {
         String expectedError = "Not Found";
         String expectedMessage = "No message available";
 
-        Superhero createdHero = fluentSuperheroController.createHero(BASIC_HERO)
+        Superhero createdHero = fluentSuperheroController.createHero(Fixtures.hero(BASIC_HERO))
                 .statusCodeIs(200)
                 .getSuperheroFromResponse();
 
@@ -1,34 +1,52 @@
 package Tests;
 
+import Cleanup.BulkCreateSummary;
+import Cleanup.BulkDeleteSummary;
+import Controllers.BulkUserEndpoint;
 import Models.BasicPetStoreResponse;
 import Controllers.UserController;
 import Models.User;
+import Models.UserFieldComparator;
+import TestData.Fixtures;
 import io.qameta.allure.Flaky;
 import io.restassured.response.Response;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.*;
-import static TestData.UserTestData.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static Constants.Constants.PETSTORE_LATENCY_BUDGET;
+import static TestData.UserTestData.INVALID_USER;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 public class UserTests {
 
+    private static final UserFieldComparator USERS = UserFieldComparator.INSTANCE;
+    private static final Set<String> IGNORE_ID = USERS.ignoring("id");
+
     UserController userController = new UserController();
 
-    @BeforeEach
     @AfterEach
     void clearTestData(){
-        userController.clearUser(DEFAULT_USER.getUsername());
-        userController.clearUser(INVALID_USER.getUsername());
+        BulkDeleteSummary<String> summary = userController.deleteCreatedUsers();
+        assertThat(summary.isClean()).as("users left behind by cleanup: %s", summary.getFailures()).isTrue();
     }
 
     @DisplayName("create new user")
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
     void createUserTest(){
+        User user = Fixtures.user();
         int expectedStatusCode = 200;
         String expectedResponseType = "unknown";
 
-        Response actualResponse = userController.createUser(DEFAULT_USER);
+        Response actualResponse = userController.createUser(user);
+        userController.lastCallRespondedWithin(PETSTORE_LATENCY_BUDGET);
         BasicPetStoreResponse createdUserResponse  = actualResponse.as(BasicPetStoreResponse.class);
         String actualMessage = createdUserResponse.getMessage();
 
@@ -63,9 +81,10 @@ public class UserTests {
     @Tags({@Tag("smoke"), @Tag("API")})
     @Test
     void createAndCheckUserTest(){
-        String expectedMessage = String.valueOf(DEFAULT_USER.getId());
+        User user = Fixtures.user();
+        String expectedMessage = String.valueOf(user.getId());
 
-        BasicPetStoreResponse afterCreationResponse = userController.createUser(DEFAULT_USER).as(BasicPetStoreResponse.class);
+        BasicPetStoreResponse afterCreationResponse = userController.createUser(user).as(BasicPetStoreResponse.class);
 
         SoftAssertions softly = new SoftAssertions();
         softly.assertThat(afterCreationResponse.getCode()).isEqualTo(200);
@@ -73,13 +92,13 @@ public class UserTests {
         softly.assertThat(afterCreationResponse.getType()).isEqualTo("unknown");
         softly.assertAll();
 
-        Response createdUserResponse = userController.getUserByName(DEFAULT_USER.getUsername());
+        Response createdUserResponse = userController.getUserByName(user.getUsername());
 
         assertThat(createdUserResponse.statusCode()).isEqualTo(200);
 
         User createdUser = createdUserResponse.as(User.class);
 
-        assertThat(createdUser).usingRecursiveComparison().ignoringFields("id").isEqualTo(DEFAULT_USER);
+        USERS.assertMatches(createdUser, user, IGNORE_ID);
     }
 
     @DisplayName("create user and delete it")
@@ -87,8 +106,9 @@ public class UserTests {
     @Flaky
     @Test
     void createAndDeleteUserTest(){
-        String expectedMessage = String.valueOf(DEFAULT_USER.getId());
-        BasicPetStoreResponse createdUserResponse = userController.createUser(DEFAULT_USER).as(BasicPetStoreResponse.class);
+        User user = Fixtures.user();
+        String expectedMessage = String.valueOf(user.getId());
+        BasicPetStoreResponse createdUserResponse = userController.createUser(user).as(BasicPetStoreResponse.class);
 
         SoftAssertions softly = new SoftAssertions();
         softly.assertThat(createdUserResponse.getCode()).isEqualTo(200);
@@ -96,19 +116,19 @@ public class UserTests {
         softly.assertThat(createdUserResponse.getType()).isEqualTo("unknown");
         softly.assertAll();
 
-        Response getCreatedUserResponse = userController.getUserByName(DEFAULT_USER.getUsername());
+        Response getCreatedUserResponse = userController.getUserByName(user.getUsername());
 
         assertThat(getCreatedUserResponse.statusCode()).isEqualTo(200);
 
         User createdUser = getCreatedUserResponse.as(User.class);
 
-        assertThat(createdUser).usingRecursiveComparison().ignoringFields("id").isEqualTo(DEFAULT_USER);
+        USERS.assertMatches(createdUser, user, IGNORE_ID);
 
         Response deleteUserResponse = userController.deleteUser(createdUser.getUsername());
 
         assertThat(deleteUserResponse.statusCode()).isEqualTo(200);
 
-        BasicPetStoreResponse getDeletedUserResponse = userController.waitUntilUserIsDeleted(DEFAULT_USER.getUsername())
+        BasicPetStoreResponse getDeletedUserResponse = userController.waitUntilUserIsDeleted(user.getUsername())
                 .as(BasicPetStoreResponse.class);
 
         softly.assertThat(getDeletedUserResponse.getCode()).isEqualTo(1);
@@ -122,18 +142,14 @@ public class UserTests {
     @Flaky
     @Test
     void createAndUpdateUserTest(){
-        String expectedMessage = String.valueOf(DEFAULT_USER.getId());
-        User userToUpdate = new User
-                (7609378451L,
-                        "updateduserusername",
-                        "Neo",
-                        "The chosen",
-                        "neo2025@example.com",
-                        "redpillbluepill87634",
-                        "+5781438",
-                        0);
-
-        BasicPetStoreResponse createdUserResponse = userController.createUser(DEFAULT_USER).as(BasicPetStoreResponse.class);
+        User user = Fixtures.user();
+        String expectedMessage = String.valueOf(user.getId());
+        User userToUpdate = Fixtures.user();
+        userToUpdate.setFirstName("Neo");
+        userToUpdate.setLastName("The chosen");
+        userToUpdate.setPassword("redpillbluepill87634");
+
+        BasicPetStoreResponse createdUserResponse = userController.createUser(user).as(BasicPetStoreResponse.class);
 
         SoftAssertions softly = new SoftAssertions();
         softly.assertThat(createdUserResponse.getCode()).isEqualTo(200);
@@ -141,15 +157,15 @@ public class UserTests {
         softly.assertThat(createdUserResponse.getType()).isEqualTo("unknown");
         softly.assertAll();
 
-        Response getCreatedUserResponse = userController.getUserByName(DEFAULT_USER.getUsername());
+        Response getCreatedUserResponse = userController.getUserByName(user.getUsername());
 
         assertThat(getCreatedUserResponse.statusCode()).isEqualTo(200);
 
         User createdUser = getCreatedUserResponse.as(User.class);
 
-        assertThat(createdUser).usingRecursiveComparison().ignoringFields("id").isEqualTo(DEFAULT_USER);
+        USERS.assertMatches(createdUser, user, IGNORE_ID);
 
-        Response updatedUserResponse = userController.updateUser(userToUpdate, DEFAULT_USER.getUsername());
+        Response updatedUserResponse = userController.updateUser(userToUpdate, user.getUsername());
 
         assertThat(updatedUserResponse.statusCode()).isEqualTo(200);
 
@@ -164,4 +180,23 @@ public class UserTests {
         softly.assertThat(updatedUser.getPassword()).isEqualTo("redpillbluepill87634");
         softly.assertAll();
     }
+
+    @DisplayName("create users in bulk and read them back")
+    @Tags({@Tag("smoke"), @Tag("API")})
+    @ParameterizedTest(name = "{displayName} via {0}")
+    @EnumSource(BulkUserEndpoint.class)
+    void createUsersInBulkTest(BulkUserEndpoint endpoint){
+        // two small chunks are enough to cover chunking; SuiteBenchmark.BULK_USER_SEEDING does the large runs
+        List<User> users = Stream.generate(Fixtures::user).limit(5).toList();
+
+        BulkCreateSummary<String> summary = userController.createUsers(users.stream(), endpoint, 3, 2);
+
+        assertThat(summary.isClean()).as("failures: %s, visibility: %s", summary.getFailures(), summary.getVisibility())
+                .isTrue();
+        assertThat(summary.getChunks()).isEqualTo(2);
+        assertThat(Set.copyOf(summary.getCreated()))
+                .isEqualTo(users.stream().map(User::getUsername).collect(Collectors.toSet()));
+        User last = users.get(users.size() - 1);
+        USERS.assertMatches(userController.getUserByName(last.getUsername()).as(User.class), last, IGNORE_ID);
+    }
 }
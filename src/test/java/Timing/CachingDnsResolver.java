@@ -0,0 +1,42 @@
+package Timing;
+
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// failed lookups are not cached, so a host that comes up late is found on the next connection
+class CachingDnsResolver implements DnsResolver {
+
+    private final long ttlNanos;
+    private final Map<String, Resolved> cache = new ConcurrentHashMap<>();
+
+    CachingDnsResolver(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        long now = System.nanoTime();
+        Resolved resolved = cache.get(host);
+        if (resolved == null || now - resolved.resolvedAt > ttlNanos) {
+            resolved = new Resolved(SystemDefaultDnsResolver.INSTANCE.resolve(host), now);
+            cache.put(host, resolved);
+        }
+        return resolved.addresses.clone();
+    }
+
+    private static class Resolved {
+        private final InetAddress[] addresses;
+        private final long resolvedAt;
+
+        private Resolved(InetAddress[] addresses, long resolvedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+}
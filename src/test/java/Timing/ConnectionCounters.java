@@ -0,0 +1,49 @@
+package Timing;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What went over the connections of one client: requests sent, connections opened for them and connections opened
+ * ahead of time by {@link ConnectionPool#warmUp}. Every request that did not open its own connection skipped a
+ * TCP (and for https a TLS) handshake.
+ */
+public class ConnectionCounters {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder warmedUp = new LongAdder();
+
+    void requestSent() {
+        requests.increment();
+    }
+
+    void connectionOpened() {
+        opened.increment();
+    }
+
+    void connectionsWarmedUp(int connections) {
+        warmedUp.add(connections);
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getConnectionsOpened() {
+        return opened.sum();
+    }
+
+    public long getConnectionsWarmedUp() {
+        return warmedUp.sum();
+    }
+
+    public long getHandshakesSaved() {
+        return Math.max(0, getRequests() - (getConnectionsOpened() - getConnectionsWarmedUp()));
+    }
+
+    @Override
+    public String toString() {
+        return getRequests() + " requests over " + getConnectionsOpened() + " connections ("
+                + getConnectionsWarmedUp() + " warmed up), " + getHandshakesSaved() + " handshakes saved";
+    }
+}
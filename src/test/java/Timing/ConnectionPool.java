@@ -0,0 +1,173 @@
+package Timing;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.params.HttpClientParams;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpParams;
+import org.apache.http.params.SyncBasicHttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kept-alive connections shared by every controller in the JVM, so test classes and controller instances reuse
+ * each other's TCP and TLS sessions instead of opening one per request. Idle connections are closed in the
+ * background before the server would drop them; host names are resolved once per {@code http.pool.dnsCacheSeconds}.
+ */
+// RestAssured 5 still drives the HttpClient 4 HttpParams pipeline, which only the deprecated connection API plugs into
+@SuppressWarnings("deprecation")
+public class ConnectionPool {
+
+    public static final int DEFAULT_MAX_PER_ROUTE = Integer.getInteger("http.pool.maxPerRoute", 32);
+    public static final int DEFAULT_MAX_TOTAL = Integer.getInteger("http.pool.maxTotal", 128);
+    // the JDK server behind the stubs closes connections after 30 idle seconds
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(Long.getLong("http.pool.idleSeconds", 20));
+    private static final Duration DNS_TTL = Duration.ofSeconds(Long.getLong("http.pool.dnsCacheSeconds", 60));
+    // a response stream nobody closes keeps its connection leased; fail the next request instead of hanging it
+    private static final Duration LEASE_TIMEOUT = Duration.ofSeconds(Long.getLong("http.pool.leaseTimeoutSeconds", 30));
+    // RestAssured reads a body only when the test asks for it, so an unread body would hold its connection
+    private static final long BUFFERED_BODY_LIMIT = Long.getLong("http.pool.bufferedBodyBytes", 1024 * 1024);
+
+    private final ConnectionCounters counters = new ConnectionCounters();
+    private final CachingDnsResolver dnsResolver = new CachingDnsResolver(DNS_TTL);
+    private final Duration idleTimeout;
+    private final PoolingClientConnectionManager manager;
+    private final HttpParams warmUpParams = new SyncBasicHttpParams();
+    private final ScheduledExecutorService evictor;
+
+    public ConnectionPool(int maxPerRoute, int maxTotal, Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        manager = new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault(), dnsResolver) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemes) {
+                return new TimedConnectionOperator(schemes, dnsResolver, counters);
+            }
+        };
+        manager.setDefaultMaxPerRoute(maxPerRoute);
+        manager.setMaxTotal(maxTotal);
+        DefaultHttpClient.setDefaultHttpParams(warmUpParams);
+
+        evictor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, idleTimeout.toMillis() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public static ConnectionPool shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * For {@code RestAssuredConfig.httpClient(...)}. RestAssured still builds a client per request, since it
+     * re-registers its interceptors on whichever client it gets, but every one of them leases from this pool.
+     */
+    public HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig().httpClientFactory(new TimedHttpClientFactory(this));
+    }
+
+    public ConnectionCounters getCounters() {
+        return counters;
+    }
+
+    public PoolStats getStats() {
+        return manager.getTotalStats();
+    }
+
+    /**
+     * Resolves each base URL's host and opens up to {@code connectionsPerRoute} connections to it, including the
+     * TLS handshake for https, then parks them in the pool. Returns how many connections were opened; an
+     * unreachable host is skipped, as the first real request will report it anyway.
+     */
+    public int warmUp(Collection<String> baseUrls, int connectionsPerRoute) {
+        int opened = 0;
+        for (String baseUrl : baseUrls) {
+            HttpRoute route = routeTo(URI.create(baseUrl));
+            List<ManagedClientConnection> leased = new ArrayList<>();
+            try {
+                for (int i = 0; i < Math.min(connectionsPerRoute, manager.getMaxPerRoute(route)); i++) {
+                    ManagedClientConnection connection = manager.requestConnection(route, null)
+                            .getConnection(LEASE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                    leased.add(connection);
+                    if (!connection.isOpen()) {
+                        connection.open(route, new BasicHttpContext(), warmUpParams);
+                        opened++;
+                    }
+                }
+            } catch (IOException e) {
+                // nothing listening yet
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                for (ManagedClientConnection connection : leased) {
+                    connection.markReusable();
+                    manager.releaseConnection(connection, idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        counters.connectionsWarmedUp(opened);
+        return opened;
+    }
+
+    public void shutdown() {
+        evictor.shutdownNow();
+        manager.shutdown();
+    }
+
+    HttpClient client() {
+        DefaultHttpClient client = TimedHttpClientFactory.newClient(manager, counters);
+        HttpClientParams.setConnectionManagerTimeout(client.getParams(), LEASE_TIMEOUT.toMillis());
+        client.addResponseInterceptor(ConnectionPool::bufferSmallBody);
+        return client;
+    }
+
+    // a buffered entity is not streaming, so the client hands the connection back before returning the response
+    private static void bufferSmallBody(HttpResponse response, HttpContext context) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity != null && entity.isStreaming()
+                && entity.getContentLength() >= 0 && entity.getContentLength() <= BUFFERED_BODY_LIMIT) {
+            response.setEntity(new BufferedHttpEntity(entity));
+        }
+    }
+
+    private void evictIdle() {
+        manager.closeExpiredConnections();
+        manager.closeIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // the same route the client plans for a request, so warmed connections are the ones requests lease
+    private HttpRoute routeTo(URI baseUrl) {
+        Scheme scheme = manager.getSchemeRegistry().getScheme(baseUrl.getScheme());
+        HttpHost target = new HttpHost(baseUrl.getHost(), scheme.resolvePort(baseUrl.getPort()), baseUrl.getScheme());
+        return new HttpRoute(target, null, scheme.isLayered());
+    }
+
+    private static class Holder {
+        private static final ConnectionPool INSTANCE =
+                new ConnectionPool(DEFAULT_MAX_PER_ROUTE, DEFAULT_MAX_TOTAL, DEFAULT_IDLE_TIMEOUT);
+    }
+}
@@ -0,0 +1,25 @@
+package Timing;
+
+import Constants.Constants;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+import java.util.List;
+
+/**
+ * With {@code -Dhttp.pool.warmUp=true}, opens connections to both services before the first test runs, so no
+ * test pays for DNS, TCP or TLS setup on its first request. {@code http.pool.warmUpConnections} per host,
+ * 4 by default.
+ */
+public class ConnectionWarmUp implements LauncherSessionListener {
+
+    private static final int CONNECTIONS_PER_HOST = Integer.getInteger("http.pool.warmUpConnections", 4);
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        if (!Boolean.getBoolean("http.pool.warmUp")) {
+            return;
+        }
+        ConnectionPool.shared().warmUp(List.of(Constants.BASE_URL, Constants.BASE_SUPERHERO_URL), CONNECTIONS_PER_HOST);
+    }
+}
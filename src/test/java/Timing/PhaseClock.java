@@ -0,0 +1,59 @@
+package Timing;
+
+import java.time.Duration;
+
+/**
+ * Timestamps collected on the calling thread while a {@link TimingFilter} is active; the HTTP client hooks in
+ * {@link TimedHttpClientFactory} write into it, and the filter turns it into {@link RequestTimings}.
+ */
+class PhaseClock {
+
+    private static final ThreadLocal<PhaseClock> CURRENT = new ThreadLocal<>();
+
+    private final long start = System.nanoTime();
+    private long connectNanos;
+    private long writeStart;
+    private long writeEnd;
+    private long headersEnd;
+
+    static PhaseClock start() {
+        PhaseClock clock = new PhaseClock();
+        CURRENT.set(clock);
+        return clock;
+    }
+
+    static PhaseClock current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void connected(long connectStart) {
+        connectNanos += System.nanoTime() - connectStart;
+    }
+
+    void writeStarted() {
+        writeStart = System.nanoTime();
+    }
+
+    void writeFinished() {
+        writeEnd = System.nanoTime();
+    }
+
+    void headersReceived() {
+        headersEnd = System.nanoTime();
+    }
+
+    RequestTimings finish() {
+        long end = System.nanoTime();
+        long write = writeEnd - writeStart;
+        long firstByte = headersEnd - writeEnd;
+        long body = end - headersEnd;
+        long total = end - start;
+        long overhead = Math.max(0, total - connectNanos - write - firstByte - body);
+        return new RequestTimings(Duration.ofNanos(connectNanos), Duration.ofNanos(write), Duration.ofNanos(firstByte),
+                Duration.ofNanos(body), Duration.ofNanos(overhead), Duration.ofNanos(total));
+    }
+}
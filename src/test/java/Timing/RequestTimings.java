@@ -0,0 +1,19 @@
+package Timing;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Where the time of one call went. {@code connect} is zero when a kept-alive connection was reused;
+ * {@code clientOverhead} is whatever RestAssured and the filters spent around the wire phases.
+ */
+@Value
+public class RequestTimings {
+    Duration connect;
+    Duration requestWrite;
+    Duration timeToFirstByte;
+    Duration bodyRead;
+    Duration clientOverhead;
+    Duration total;
+}
@@ -0,0 +1,39 @@
+package Timing;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+
+// RestAssured 5 still drives the HttpClient 4 HttpParams pipeline, which only the deprecated connection API plugs into
+@SuppressWarnings("deprecation")
+class TimedConnectionOperator extends DefaultClientConnectionOperator {
+
+    private final ConnectionCounters counters;
+
+    TimedConnectionOperator(SchemeRegistry schemes, DnsResolver dnsResolver, ConnectionCounters counters) {
+        super(schemes, dnsResolver);
+        this.counters = counters;
+    }
+
+    @Override
+    public void openConnection(OperatedClientConnection connection, HttpHost target, InetAddress local,
+                               HttpContext context, HttpParams params) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.openConnection(connection, target, local, context, params);
+            counters.connectionOpened();
+        } finally {
+            PhaseClock clock = PhaseClock.current();
+            if (clock != null) {
+                clock.connected(start);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package Timing;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+/**
+ * Same client RestAssured builds by default, with hooks around opening the connection, writing the request and
+ * reading the response head. The hooks only record while a {@link TimingFilter} is active on the thread.
+ * By default every client hands out the kept-alive connections of {@link ConnectionPool#shared()};
+ * {@link #perRequestConnections()} keeps RestAssured's own behaviour of one fresh connection per request.
+ */
+public class TimedHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    private final ConnectionPool pool;
+    private final ConnectionCounters counters;
+
+    public TimedHttpClientFactory() {
+        this(ConnectionPool.shared());
+    }
+
+    public TimedHttpClientFactory(ConnectionPool pool) {
+        this.pool = pool;
+        this.counters = pool.getCounters();
+    }
+
+    private TimedHttpClientFactory(ConnectionCounters counters) {
+        this.pool = null;
+        this.counters = counters;
+    }
+
+    public static TimedHttpClientFactory perRequestConnections() {
+        return new TimedHttpClientFactory(new ConnectionCounters());
+    }
+
+    public ConnectionCounters getCounters() {
+        return counters;
+    }
+
+    @Override
+    // RestAssured 5 still drives the HttpClient 4 HttpParams pipeline, which only the deprecated client API plugs into
+    @SuppressWarnings("deprecation")
+    public HttpClient createHttpClient() {
+        if (pool != null) {
+            return pool.client();
+        }
+        return newClient(new BasicClientConnectionManager(SchemeRegistryFactory.createDefault()) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemes) {
+                return new TimedConnectionOperator(schemes, SystemDefaultDnsResolver.INSTANCE, counters);
+            }
+        }, counters);
+    }
+
+    // RestAssured 5 still drives the HttpClient 4 HttpParams pipeline, which only the deprecated client API plugs into
+    @SuppressWarnings("deprecation")
+    static DefaultHttpClient newClient(ClientConnectionManager manager, ConnectionCounters counters) {
+        return new DefaultHttpClient(manager) {
+            @Override
+            protected HttpRequestExecutor createRequestExecutor() {
+                return new TimedRequestExecutor(counters);
+            }
+        };
+    }
+}
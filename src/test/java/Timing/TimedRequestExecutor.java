@@ -0,0 +1,45 @@
+package Timing;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.IOException;
+
+class TimedRequestExecutor extends HttpRequestExecutor {
+
+    private final ConnectionCounters counters;
+
+    TimedRequestExecutor(ConnectionCounters counters) {
+        this.counters = counters;
+    }
+
+    @Override
+    protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection connection, HttpContext context)
+            throws IOException, HttpException {
+        counters.requestSent();
+        PhaseClock clock = PhaseClock.current();
+        if (clock != null) {
+            clock.writeStarted();
+        }
+        HttpResponse response = super.doSendRequest(request, connection, context);
+        if (clock != null) {
+            clock.writeFinished();
+        }
+        return response;
+    }
+
+    @Override
+    protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection connection,
+                                             HttpContext context) throws HttpException, IOException {
+        HttpResponse response = super.doReceiveResponse(request, connection, context);
+        PhaseClock clock = PhaseClock.current();
+        if (clock != null) {
+            clock.headersReceived();
+        }
+        return response;
+    }
+}
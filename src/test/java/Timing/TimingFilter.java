@@ -0,0 +1,43 @@
+package Timing;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Breaks each call down into connect, request write, time to first byte and body read. Needs the client from
+ * {@link TimedHttpClientFactory}; add it as the last filter so the time other filters spend stays out of the
+ * measurement. Results are kept per thread, like {@code ReadinessWait.lastStats()}.
+ */
+public class TimingFilter implements Filter {
+
+    private static final ThreadLocal<RequestTimings> LAST = new ThreadLocal<>();
+
+    public static RequestTimings lastTimings() {
+        return LAST.get();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        PhaseClock clock = PhaseClock.start();
+        RequestTimings timings = null;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            // the body is buffered anyway; reading it here keeps the read inside the measured window
+            response.asByteArray();
+            timings = clock.finish();
+            return response;
+        } finally {
+            PhaseClock.clear();
+            // a failed call must not leave the previous call's timings behind for the next response on this thread
+            if (timings == null) {
+                LAST.remove();
+            } else {
+                LAST.set(timings);
+            }
+        }
+    }
+}
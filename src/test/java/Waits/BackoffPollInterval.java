@@ -0,0 +1,28 @@
+package Waits;
+
+import org.awaitility.pollinterval.PollInterval;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class BackoffPollInterval implements PollInterval {
+
+    private static final double JITTER = 0.25;
+
+    private final long initialMillis;
+    private final long maxMillis;
+    private final double multiplier;
+
+    public BackoffPollInterval(Duration initial, Duration max, double multiplier) {
+        this.initialMillis = Math.max(1, initial.toMillis());
+        this.maxMillis = Math.max(initialMillis, max.toMillis());
+        this.multiplier = multiplier;
+    }
+
+    @Override
+    public Duration next(int pollCount, Duration previousDuration) {
+        double base = Math.min(maxMillis, initialMillis * Math.pow(multiplier, Math.max(0, pollCount - 1)));
+        double jitter = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        return Duration.ofMillis(Math.max(1, Math.round(base * jitter)));
+    }
+}
@@ -0,0 +1,32 @@
+package Waits;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ConvergenceTracker {
+
+    private static final double SMOOTHING = 0.3;
+
+    private final Map<String, Double> convergence = new ConcurrentHashMap<>();
+    private final Map<String, Double> probeLatency = new ConcurrentHashMap<>();
+
+    public long expectedMillis(String operation) {
+        return Math.round(convergence.getOrDefault(operation, 0.0));
+    }
+
+    public long expectedProbeMillis(String operation) {
+        return Math.round(probeLatency.getOrDefault(operation, 0.0));
+    }
+
+    public void record(String operation, long convergedAfterMillis) {
+        smooth(convergence, operation, convergedAfterMillis);
+    }
+
+    public void recordProbe(String operation, long probeMillis) {
+        smooth(probeLatency, operation, probeMillis);
+    }
+
+    private static void smooth(Map<String, Double> estimates, String operation, long sample) {
+        estimates.merge(operation, (double) sample, (estimate, value) -> estimate + SMOOTHING * (value - estimate));
+    }
+}
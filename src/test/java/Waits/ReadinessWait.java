@@ -0,0 +1,82 @@
+package Waits;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.awaitility.Awaitility.await;
+
+public class ReadinessWait {
+
+    private static final ConvergenceTracker TRACKER = new ConvergenceTracker();
+    private static final ThreadLocal<WaitStats> LAST_STATS = new ThreadLocal<>();
+
+    private final String operation;
+    private Duration timeout = Duration.ofSeconds(15);
+    private Duration minInterval = Duration.ofMillis(20);
+    private Duration maxInterval = Duration.ofSeconds(1);
+    private double multiplier = 2.0;
+
+    private ReadinessWait(String operation) {
+        this.operation = operation;
+    }
+
+    public static ReadinessWait forOperation(String operation) {
+        return new ReadinessWait(operation);
+    }
+
+    public static WaitStats lastStats() {
+        return LAST_STATS.get();
+    }
+
+    public ReadinessWait atMost(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public ReadinessWait intervals(Duration minInterval, Duration maxInterval, double multiplier) {
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    public <T> T until(Callable<T> probe, Predicate<? super T> condition) {
+        long expected = TRACKER.expectedMillis(operation);
+        long probeLatency = TRACKER.expectedProbeMillis(operation);
+        Duration firstProbe = Duration.ofMillis(Math.min(expected * 3 / 4, maxInterval.toMillis()));
+        Duration initialInterval = Duration.ofMillis(Math.min(
+                Math.max(Math.max(expected / 4, probeLatency), minInterval.toMillis()), maxInterval.toMillis()));
+
+        AtomicInteger probes = new AtomicInteger();
+        boolean converged = false;
+        long start = System.nanoTime();
+        try {
+            T result = await(operation)
+                    .atMost(timeout)
+                    .pollInSameThread()
+                    .pollDelay(firstProbe)
+                    .pollInterval(new BackoffPollInterval(initialInterval, maxInterval, multiplier))
+                    .until(() -> {
+                        long probeStart = System.nanoTime();
+                        try {
+                            return probe.call();
+                        } finally {
+                            probes.incrementAndGet();
+                            TRACKER.recordProbe(operation, Duration.ofNanos(System.nanoTime() - probeStart).toMillis());
+                        }
+                    }, condition);
+            converged = true;
+            return result;
+        } finally {
+            Duration waited = Duration.ofNanos(System.nanoTime() - start);
+            if (converged) {
+                TRACKER.record(operation, waited.toMillis());
+            }
+            WaitStats stats = new WaitStats(operation, probes.get(), waited, converged);
+            LAST_STATS.set(stats);
+            WaitMetrics.record(stats);
+        }
+    }
+}
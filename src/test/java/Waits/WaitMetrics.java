@@ -0,0 +1,65 @@
+package Waits;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WaitMetrics {
+
+    private static final Map<String, Totals> TOTALS = new ConcurrentHashMap<>();
+
+    private WaitMetrics() {
+    }
+
+    public static void record(WaitStats stats) {
+        Totals totals = TOTALS.computeIfAbsent(stats.getOperation(), operation -> new Totals());
+        totals.calls.increment();
+        totals.probes.add(stats.getProbes());
+        totals.waitedMillis.add(stats.getWaited().toMillis());
+        if (!stats.isConverged()) {
+            totals.timeouts.increment();
+        }
+    }
+
+    public static Totals totals(String operation) {
+        return TOTALS.getOrDefault(operation, new Totals());
+    }
+
+    public static Map<String, Totals> snapshot() {
+        return new TreeMap<>(TOTALS);
+    }
+
+    public static void reset() {
+        TOTALS.clear();
+    }
+
+    public static class Totals {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder probes = new LongAdder();
+        private final LongAdder waitedMillis = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getProbes() {
+            return probes.sum();
+        }
+
+        public long getWaitedMillis() {
+            return waitedMillis.sum();
+        }
+
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "calls=" + getCalls() + ", probes=" + getProbes() + ", waitedMillis=" + getWaitedMillis()
+                    + ", timeouts=" + getTimeouts();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package Waits;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+public class WaitStats {
+    String operation;
+    int probes;
+    Duration waited;
+    boolean converged;
+}